@@ -0,0 +1,136 @@
+package com.artemkaxboy.assertj;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ListUtils} views against the copying {@link ListUtils#reverse}. Run with {@code -prof gc} to compare the
+ * memory, {@code gc.alloc.rate.norm} being bytes allocated per operation.
+ * <ul>
+ *     <li>{@code reverse*} &mdash; the current method: a {@link java.util.LinkedList} node per element;</li>
+ *     <li>{@code reversed*} &mdash; the O(1) view over the source {@link ArrayList};</li>
+ *     <li>{@code *Create} &mdash; only building the result, {@code *Iterate} &mdash; building it and summing all
+ *     elements, {@code *Get} &mdash; building it and reading the middle element.</li>
+ * </ul>
+ * {@code chunkedIterate} and {@code concatIterate} show the cost of the other views, walking the same elements;
+ * {@code chunkedSequentialIterate} chunks a {@link LinkedList}, the type {@link ListUtils#reverse} returns.
+ * <p>
+ * Results on JDK 21, a single core, {@code -wi 2 -w 1 -i 3 -r 1 -prof gc}; short runs on a shared machine, so take
+ * the times as orders of magnitude, allocations are exact:
+ * <pre>
+ * benchmark                  size=1000            size=100000
+ * reverseIterate             17.8 us, 24032 B     1900 us, 2400043 B
+ * reversedIterate             1.4 us,     0 B      140 us,       1 B
+ * reverseGet                 13.9 us, 24032 B     1491 us, 2400041 B
+ * reversedGet                 0.004 us,   0 B        0.004 us,   0 B
+ * reverseCreate              12.3 us, 24032 B     1101 us, 2400038 B
+ * reversedCreate              0.006 us,  24 B        0.006 us,  24 B
+ * chunkedIterate              1.4 us,     0 B      131 us,      33 B
+ * chunkedSequentialIterate   10.9 us,  4736 B     1316 us,  462720 B
+ * concatIterate               7.9 us,   112 B      832 us,     135 B
+ * </pre>
+ * The copying {@code reverse} allocates 24 bytes per element and is linear in time; the view allocates nothing
+ * beyond itself. Chunks of a sequential list are copied in one pass, linear as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ListUtilsBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    public int size;
+
+    private List<Integer> list;
+    private List<Integer> linkedList;
+    private List<Integer> firstHalf;
+    private List<Integer> secondHalf;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        linkedList = new LinkedList<>(list);
+        firstHalf = new ArrayList<>(list.subList(0, size / 2));
+        secondHalf = new ArrayList<>(list.subList(size / 2, size));
+    }
+
+    @Benchmark
+    public List<Integer> reverseCreate() {
+        return ListUtils.reverse(list);
+    }
+
+    @Benchmark
+    public List<Integer> reversedCreate() {
+        return ListUtils.reversed(list);
+    }
+
+    @Benchmark
+    public long reverseIterate() {
+        return sum(ListUtils.reverse(list));
+    }
+
+    @Benchmark
+    public long reversedIterate() {
+        return sum(ListUtils.reversed(list));
+    }
+
+    @Benchmark
+    public Integer reverseGet() {
+        return ListUtils.reverse(list).get(size / 2);
+    }
+
+    @Benchmark
+    public Integer reversedGet() {
+        return ListUtils.reversed(list).get(size / 2);
+    }
+
+    @Benchmark
+    public long chunkedIterate() {
+        long sum = 0;
+        for (List<Integer> chunk : ListUtils.chunked(list, 64)) {
+            sum += sum(chunk);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long chunkedSequentialIterate() {
+        long sum = 0;
+        for (List<Integer> chunk : ListUtils.chunked(linkedList, 64)) {
+            sum += sum(chunk);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long concatIterate() {
+        return sum(ListUtils.concat(firstHalf, secondHalf));
+    }
+
+    private static long sum(List<Integer> values) {
+        long sum = 0;
+        for (Integer value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,240 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Own cost of {@link ParallelRunner} against a plain {@link ExecutorService#invokeAll(Collection)} doing the same
+ * no-op work. Workers do nothing, so every number is pure runner overhead.
+ * <ul>
+ *     <li>{@code construct} &mdash; factory call and close, threads are started but not awaited;</li>
+ *     <li>{@code readiness} &mdash; factory call until every worker is parked at the trigger;</li>
+ *     <li>{@code release} &mdash; {@code start()} until the last worker finished, i.e. the start skew plus one
+ *     completion; the baseline is a count-down latch opened over an already started fixed pool;</li>
+ *     <li>{@code collect} &mdash; {@code getResults()} of a finished runner vs {@code Future.get()} loop;</li>
+ *     <li>{@code fullRun} &mdash; everything above, vs {@code newFixedThreadPool + invokeAll + shutdown}.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelRunnerBenchmark {
+
+    private static final Runnable NOOP = () -> {
+    };
+    private static final Callable<Void> NOOP_CALLABLE = () -> null;
+
+    @State(Scope.Thread)
+    public static class Config {
+
+        @Param({"1", "16", "256"})
+        public int threads;
+
+        @Param({"PLATFORM", "VIRTUAL"})
+        public RunnerOptions.ThreadMode threadMode;
+
+        RunnerOptions options;
+
+        @Setup
+        public void setUp() {
+            options = RunnerOptions.defaults().withThreadMode(threadMode);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ReadyRunner {
+
+        ParallelRunner<Void> runner;
+
+        @Setup(Level.Invocation)
+        public void setUp(Config config) throws InterruptedException {
+            runner = ParallelRunner.forRunnable(config.threads, NOOP, config.options);
+            runner.awaitReadiness();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            runner.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FinishedRunner {
+
+        ParallelRunner<Void> runner;
+
+        @Setup(Level.Invocation)
+        public void setUp(Config config) throws InterruptedException {
+            runner = ParallelRunner.forRunnable(config.threads, NOOP, config.options);
+            runner.start();
+            runner.await();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            runner.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ReadyPool {
+
+        ExecutorService pool;
+        CountDownLatch trigger;
+        List<Future<Void>> futures;
+
+        @Setup(Level.Trial)
+        public void startPool(Config config) {
+            pool = newPool(config);
+        }
+
+        @Setup(Level.Invocation)
+        public void setUp(Config config) throws InterruptedException {
+            CountDownLatch ready = new CountDownLatch(config.threads);
+            CountDownLatch trigger = new CountDownLatch(1);
+            futures = new ArrayList<>(config.threads);
+            for (int i = 0; i < config.threads; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.countDown();
+                    trigger.await();
+                    return null;
+                }));
+            }
+            ready.await();
+            this.trigger = trigger;
+        }
+
+        @TearDown(Level.Trial)
+        public void stopPool() {
+            pool.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FinishedFutures {
+
+        ExecutorService pool;
+        List<Future<Void>> futures;
+
+        @Setup(Level.Trial)
+        public void startPool(Config config) {
+            pool = newPool(config);
+        }
+
+        @Setup(Level.Invocation)
+        public void setUp(Config config) throws InterruptedException {
+            futures = pool.invokeAll(noopCallables(config.threads));
+        }
+
+        @TearDown(Level.Trial)
+        public void stopPool() {
+            pool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public ParallelRunner<Void> construct(Config config) {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(config.threads, NOOP, config.options);
+        runner.close();
+        return runner;
+    }
+
+    @Benchmark
+    public ParallelRunner<Void> readiness(Config config) throws InterruptedException {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(config.threads, NOOP, config.options);
+        runner.awaitReadiness();
+        runner.close();
+        return runner;
+    }
+
+    @Benchmark
+    public int release(ReadyRunner state) throws InterruptedException {
+        state.runner.start();
+        state.runner.await();
+        return state.runner.getFinishedThreadCount();
+    }
+
+    @Benchmark
+    public int releaseBaseline(ReadyPool state) throws ExecutionException, InterruptedException {
+        state.trigger.countDown();
+        for (Future<Void> future : state.futures) {
+            future.get();
+        }
+        return state.futures.size();
+    }
+
+    @Benchmark
+    public Collection<ParallelRunner.Result<Void>> collect(FinishedRunner state) {
+        return state.runner.getResults();
+    }
+
+    @Benchmark
+    public List<Void> collectBaseline(FinishedFutures state) throws ExecutionException, InterruptedException {
+        List<Void> values = new ArrayList<>(state.futures.size());
+        for (Future<Void> future : state.futures) {
+            values.add(future.get());
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Collection<ParallelRunner.Result<Void>> fullRun(Config config) throws InterruptedException {
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(config.threads, NOOP, config.options)) {
+            runner.awaitReadiness();
+            runner.start();
+            return runner.getResults();
+        }
+    }
+
+    @Benchmark
+    public List<Void> fullRunBaseline(Config config) throws ExecutionException, InterruptedException {
+        ExecutorService pool = newPool(config);
+        try {
+            List<Void> values = new ArrayList<>(config.threads);
+            for (Future<Void> future : pool.invokeAll(noopCallables(config.threads))) {
+                values.add(future.get());
+            }
+            return values;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ExecutorService newPool(Config config) {
+        return config.threadMode == RunnerOptions.ThreadMode.VIRTUAL
+                ? VirtualThreads.newExecutor()
+                : Executors.newFixedThreadPool(config.threads);
+    }
+
+    private static List<Callable<Void>> noopCallables(int count) {
+        List<Callable<Void>> callables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            callables.add(NOOP_CALLABLE);
+        }
+        return callables;
+    }
+}
@@ -0,0 +1,129 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generated ACODE inputs. Every line is a valid code: no leading zero and every zero right after a 1 or a 2. Public
+ * because JMH generated classes live in a subpackage and take the enums as parameters.
+ */
+public final class Corpus {
+
+    private final List<String> lines;
+    private final byte[] bytes;
+    private final int[] lineStarts;
+    private final byte[] input;
+
+    private Corpus(List<String> lines) {
+        this.lines = lines;
+        this.bytes = String.join("", lines).getBytes(StandardCharsets.US_ASCII);
+        this.lineStarts = new int[lines.size() + 1];
+        for (int i = 0; i < lines.size(); i++) {
+            lineStarts[i + 1] = lineStarts[i] + lines.get(i).length();
+        }
+        this.input = (String.join("\n", lines) + "\n0\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static Corpus generate(Digits digits, Shape shape, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> lines = new ArrayList<>();
+        int left = size;
+        while (left > 0) {
+            int length = Math.min(left, shape == Shape.ONE_HUGE ? size : 1 + random.nextInt(Shape.MAX_SHORT_LINE));
+            lines.add(digits.line(random, length));
+            left -= length;
+        }
+        return new Corpus(lines);
+    }
+
+    List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * @return all lines back to back, without separators
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return offset of every line in {@link #getBytes()}, with the total length as the last element
+     */
+    int[] getLineStarts() {
+        return lineStarts;
+    }
+
+    /**
+     * @return lines as the judge sends them, separated by line feeds and ended by the {@code 0} line
+     */
+    byte[] getInput() {
+        return input;
+    }
+
+    public enum Digits {
+
+        /**
+         * Any digit, zeros only where they are valid.
+         */
+        RANDOM {
+            @Override
+            int next(SplittableRandom random, int last) {
+                return random.nextInt(10);
+            }
+        },
+
+        /**
+         * Only ones and twos, so every pair is a letter and the count grows as fast as possible.
+         */
+        ONES_TWOS {
+            @Override
+            int next(SplittableRandom random, int last) {
+                return 1 + random.nextInt(2);
+            }
+        },
+
+        /**
+         * Every other digit is a zero after a 1 or a 2, the recurrence keeps resetting to a single branch.
+         */
+        ZERO_HEAVY {
+            @Override
+            int next(SplittableRandom random, int last) {
+                return last == 1 || last == 2 ? 0 : 1 + random.nextInt(2);
+            }
+        };
+
+        abstract int next(SplittableRandom random, int last);
+
+        String line(SplittableRandom random, int length) {
+            StringBuilder builder = new StringBuilder(length);
+            int last = -1;
+            while (builder.length() < length) {
+                int digit = next(random, last);
+                if (digit == 0 && last != 1 && last != 2) {
+                    continue;
+                }
+                builder.append((char) ('0' + digit));
+                last = digit;
+            }
+            return builder.toString();
+        }
+    }
+
+    public enum Shape {
+
+        /**
+         * Lines of 1 to {@value #MAX_SHORT_LINE} digits, per-line overhead dominates.
+         */
+        MANY_SHORT,
+
+        /**
+         * A single line of the whole corpus size, the per-digit loop dominates.
+         */
+        ONE_HUGE;
+
+        static final int MAX_SHORT_LINE = 100;
+    }
+}
@@ -0,0 +1,121 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ACODE decoders over a whole generated {@link Corpus} of {@code size} digits, either as many short lines or as one
+ * huge line. Every benchmark decodes all lines, so scores of the same corpus are directly comparable and
+ * {@code size / score} is the throughput in digits per microsecond. Run with {@code -prof gc} for the allocation rate,
+ * {@code gc.alloc.rate.norm} being bytes allocated per corpus.
+ * <ul>
+ *     <li>{@code copilot} &mdash; {@link Main#decodeCopilot(String)}, the reference;</li>
+ *     <li>{@code rolling} &mdash; {@link Main#decodeRolling(CharSequence)} on the same strings;</li>
+ *     <li>{@code rollingBytes} &mdash; {@link Main#decodeRolling(byte[], int, int)} over one shared array;</li>
+ *     <li>{@code solve} &mdash; {@link Main#solve}, parsing the judge input and formatting the answers too;</li>
+ *     <li>{@code mod} &mdash; {@link Main#decodeMod(CharSequence, long)};</li>
+ *     <li>{@code parallel} &mdash; {@link ParallelDecoder#decode(byte[])} on the common fork/join pool.</li>
+ * </ul>
+ * Exact counting is quadratic in the line length and is measured separately by {@link ExactDecodeBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecodeBenchmark {
+
+    private static final long MODULUS = 1_000_000_007;
+
+    @Param({"RANDOM", "ONES_TWOS", "ZERO_HEAVY"})
+    public Corpus.Digits digits;
+
+    @Param({"MANY_SHORT", "ONE_HUGE"})
+    public Corpus.Shape shape;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<String> lines;
+    private byte[][] lineBytes;
+    private byte[] bytes;
+    private int[] lineStarts;
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        Corpus corpus = Corpus.generate(digits, shape, size, 42);
+        lines = corpus.getLines();
+        lineBytes = lines.stream().map(line -> line.getBytes(StandardCharsets.US_ASCII)).toArray(byte[][]::new);
+        bytes = corpus.getBytes();
+        lineStarts = corpus.getLineStarts();
+        input = corpus.getInput();
+    }
+
+    @Benchmark
+    public long copilot() {
+        long sum = 0;
+        for (String line : lines) {
+            sum += Main.decodeCopilot(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rolling() {
+        long sum = 0;
+        for (String line : lines) {
+            sum += Main.decodeRolling(line);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rollingBytes() {
+        long sum = 0;
+        for (int i = 0; i < lineStarts.length - 1; i++) {
+            sum += Main.decodeRolling(bytes, lineStarts[i], lineStarts[i + 1]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void solve() throws IOException {
+        Main.solve(new ByteArrayInputStream(input), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public long mod() {
+        long sum = 0;
+        for (String line : lines) {
+            sum += Main.decodeMod(line, MODULUS);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parallel() {
+        long sum = 0;
+        for (byte[] line : lineBytes) {
+            sum += ParallelDecoder.decode(line);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,79 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overflow-safe ACODE counting against {@link Main#decodeCopilot(String)}, which silently wraps around after about
+ * 90 ambiguous digits. Input is all ones, the fastest-growing count.
+ * <ul>
+ *     <li>{@code copilot} &mdash; current method, wrong beyond {@code long};</li>
+ *     <li>{@code exact} &mdash; {@link ExactDecoder}, {@code long} until overflow, then in-place limbs;</li>
+ *     <li>{@code exactBaseline} &mdash; the same recurrence on {@link BigInteger}, one allocation per digit;</li>
+ *     <li>{@code mod} &mdash; {@link Main#decodeMod(CharSequence, long)}, residues only.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactDecodeBenchmark {
+
+    private static final long MODULUS = 1_000_000_007;
+
+    @Param({"64", "1000", "10000"})
+    public int length;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = "1".repeat(length);
+    }
+
+    @Benchmark
+    public long copilot() {
+        return Main.decodeCopilot(input);
+    }
+
+    @Benchmark
+    public BigInteger exact() {
+        return Main.decodeExact(input);
+    }
+
+    @Benchmark
+    public BigInteger exactBaseline() {
+        BigInteger previous = BigInteger.ONE;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 1; i < input.length(); i++) {
+            int digit = input.charAt(i) - '0';
+            int pair = (input.charAt(i - 1) - '0') * 10 + digit;
+            BigInteger next = digit > 0 ? current : BigInteger.ZERO;
+            if (pair >= 10 && pair <= 26) {
+                next = next.add(previous);
+            }
+            previous = current;
+            current = next;
+        }
+        return current;
+    }
+
+    @Benchmark
+    public long mod() {
+        return Main.decodeMod(input, MODULUS);
+    }
+}
@@ -1,8 +1,17 @@
 package com.artemkaxboy.assertj;
 
+import java.util.AbstractList;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 public class ListUtils {
 
@@ -16,4 +25,387 @@ public class ListUtils {
         }
         return result;
     }
+
+    /**
+     * Reversed view of the list, created in O(1) without copying. Changes of the list are visible through the view and
+     * {@code set} writes through. The view is {@link RandomAccess} if the list is, otherwise it walks the list
+     * backwards with a single {@link ListIterator}. Copy it with {@code new ArrayList<>(view)} if a snapshot is needed.
+     */
+    static <T> List<T> reversed(List<T> list) {
+        Objects.requireNonNull(list, "list");
+        return list instanceof RandomAccess ? new ReversedList<>(list) : new ReversedSequentialList<>(list);
+    }
+
+    /**
+     * View of consecutive sublists of {@code size} elements, the last one may be shorter. Chunks are
+     * {@link List#subList} views created on access. The view is {@link RandomAccess} if the list is, otherwise its
+     * iterator walks the list once and returns each chunk as a read-only copy, since every {@code subList} access of a
+     * sequential list walks it from the start.
+     */
+    static <T> List<List<T>> chunked(List<T> list, int size) {
+        return windowed(list, size, size, true);
+    }
+
+    /**
+     * View of sublists of {@code size} elements starting every {@code step} elements, only full windows are included.
+     * Sequential lists are iterated in one pass the same way as by {@link #chunked}.
+     */
+    static <T> List<List<T>> windowed(List<T> list, int size, int step) {
+        return windowed(list, size, step, false);
+    }
+
+    private static <T> List<List<T>> windowed(List<T> list, int size, int step, boolean partial) {
+        Objects.requireNonNull(list, "list");
+        if (size <= 0 || step <= 0) {
+            throw new IllegalArgumentException("Size and step must be positive: " + size + ", " + step);
+        }
+        return list instanceof RandomAccess
+                ? new RandomAccessWindows<>(list, size, step, partial)
+                : new SequentialWindows<>(list, size, step, partial);
+    }
+
+    /**
+     * Read-only view of all lists one after another. Lists are looked up on every access, so changes of their sizes
+     * are visible; iteration walks every list with its own iterator. The view is {@link RandomAccess} only if all lists
+     * are, {@code get} is O(number of lists) then, otherwise it walks the lists like any sequential list.
+     */
+    @SafeVarargs
+    static <T> List<T> concat(List<? extends T>... lists) {
+        boolean randomAccess = true;
+        for (List<? extends T> list : lists) {
+            randomAccess &= Objects.requireNonNull(list, "list") instanceof RandomAccess;
+        }
+        return randomAccess ? new RandomAccessConcatenation<>(lists.clone()) : new Concatenation<>(lists.clone());
+    }
+
+    private static final class ReversedList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> list;
+
+        private ReversedList(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(reversedIndex(index));
+        }
+
+        @Override
+        public T set(int index, T element) {
+            return list.set(reversedIndex(index), element);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        private int reversedIndex(int index) {
+            Objects.checkIndex(index, list.size());
+            return list.size() - 1 - index;
+        }
+    }
+
+    private static final class ReversedSequentialList<T> extends AbstractSequentialList<T> {
+
+        private final List<T> list;
+
+        private ReversedSequentialList(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            int size = list.size();
+            ListIterator<T> iterator = list.listIterator(size - index);
+            return new ListIterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public T next() {
+                    return iterator.previous();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T previous() {
+                    return iterator.next();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return size - 1 - iterator.previousIndex();
+                }
+
+                @Override
+                public int previousIndex() {
+                    return nextIndex() - 1;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void set(T element) {
+                    iterator.set(element);
+                }
+
+                @Override
+                public void add(T element) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    private abstract static class Windows<T> extends AbstractList<List<T>> {
+
+        final List<T> list;
+        final int size;
+        final int step;
+        private final boolean partial;
+
+        private Windows(List<T> list, int size, int step, boolean partial) {
+            this.list = list;
+            this.size = size;
+            this.step = step;
+            this.partial = partial;
+        }
+
+        @Override
+        public List<T> get(int index) {
+            Objects.checkIndex(index, size());
+            int from = index * step;
+            return list.subList(from, Math.min(from + size, list.size()));
+        }
+
+        @Override
+        public int size() {
+            int elements = list.size();
+            if (partial) {
+                return (elements + step - 1) / step;
+            }
+            return elements < size ? 0 : (elements - size) / step + 1;
+        }
+    }
+
+    private static final class RandomAccessWindows<T> extends Windows<T> implements RandomAccess {
+
+        private RandomAccessWindows(List<T> list, int size, int step, boolean partial) {
+            super(list, size, step, partial);
+        }
+    }
+
+    private static final class SequentialWindows<T> extends Windows<T> {
+
+        private SequentialWindows(List<T> list, int size, int step, boolean partial) {
+            super(list, size, step, partial);
+        }
+
+        /**
+         * Walks the list with a single {@link ListIterator}, overlapping elements are taken from the previous window.
+         */
+        @Override
+        public Iterator<List<T>> iterator() {
+            return new Iterator<>() {
+
+                private final ListIterator<T> source = list.listIterator();
+                private final int count = size();
+                private int index;
+                private List<T> previous;
+
+                @Override
+                public boolean hasNext() {
+                    return index < count;
+                }
+
+                @Override
+                public List<T> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    List<T> window = new ArrayList<>(size);
+                    if (previous != null) {
+                        if (step < previous.size()) {
+                            window.addAll(previous.subList(step, previous.size()));
+                        } else {
+                            for (int skipped = previous.size(); skipped < step && source.hasNext(); skipped++) {
+                                source.next();
+                            }
+                        }
+                    }
+                    while (window.size() < size && source.hasNext()) {
+                        window.add(source.next());
+                    }
+                    index++;
+                    previous = window;
+                    return Collections.unmodifiableList(window);
+                }
+            };
+        }
+    }
+
+    private static final class Concatenation<T> extends AbstractSequentialList<T> {
+
+        private final List<? extends T>[] lists;
+
+        private Concatenation(List<? extends T>[] lists) {
+            this.lists = lists;
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            return new ConcatenationIterator<>(lists, index);
+        }
+
+        @Override
+        public int size() {
+            return totalSize(lists);
+        }
+    }
+
+    private static final class RandomAccessConcatenation<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<? extends T>[] lists;
+
+        private RandomAccessConcatenation(List<? extends T>[] lists) {
+            this.lists = lists;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new ConcatenationIterator<>(lists, 0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            return new ConcatenationIterator<>(lists, index);
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size());
+            int offset = index;
+            for (List<? extends T> list : lists) {
+                if (offset < list.size()) {
+                    return list.get(offset);
+                }
+                offset -= list.size();
+            }
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        public int size() {
+            return totalSize(lists);
+        }
+    }
+
+    private static int totalSize(List<?>[] lists) {
+        int size = 0;
+        for (List<?> list : lists) {
+            size += list.size();
+        }
+        return size;
+    }
+
+    /**
+     * Read-only iterator moving through the lists with their own iterators, a list is entered when the previous one is
+     * exhausted in either direction.
+     */
+    private static final class ConcatenationIterator<T> implements ListIterator<T> {
+
+        private final List<? extends T>[] lists;
+        private int part;
+        private ListIterator<? extends T> current;
+        private int nextIndex;
+
+        private ConcatenationIterator(List<? extends T>[] lists, int index) {
+            Objects.checkIndex(index, totalSize(lists) + 1);
+            this.lists = lists;
+            this.nextIndex = index;
+            int offset = index;
+            while (part < lists.length - 1 && offset >= lists[part].size()) {
+                offset -= lists[part].size();
+                part++;
+            }
+            this.current = lists.length == 0 ? Collections.emptyListIterator() : lists[part].listIterator(offset);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && part < lists.length - 1) {
+                current = lists[++part].listIterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            return current.next();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            while (!current.hasPrevious() && part > 0) {
+                part--;
+                current = lists[part].listIterator(lists[part].size());
+            }
+            return current.hasPrevious();
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex--;
+            return current.previous();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T element) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator on top of {@link ParallelRunner}. Operations are scheduled at a fixed rate from the start
+ * of the run, operation {@code k} being intended to start at {@code start + k / rate}. Free workers claim the next
+ * scheduled operation, wait for its intended time and run it.
+ * <p>
+ * Latency is measured from the intended start, not from the moment a worker got around to it, so a slow call delays
+ * and is charged to all operations queued behind it instead of silently lowering the offered load (coordinated
+ * omission). Operations that could not be started before the end of the run are reported as missed.
+ */
+public final class ConstantRateLoad {
+
+    private static final long NOT_SENT = -1;
+
+    private final int threadCount;
+    private final Runnable operation;
+    private final double targetRate;
+    private final long durationNanos;
+    private final double periodNanos;
+    private final int scheduled;
+    private final RunnerOptions options;
+
+    private final AtomicLong nextOperation = new AtomicLong();
+    private final long[] latencies;
+    private final long[] serviceTimes;
+    private final AtomicLong errors = new AtomicLong();
+    private volatile long startNanos;
+
+    private ConstantRateLoad(int threadCount,
+                             Runnable operation,
+                             double targetRate,
+                             Duration duration,
+                             RunnerOptions options) {
+        if (targetRate <= 0) {
+            throw new IllegalArgumentException("Target rate must be positive: " + targetRate);
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+        long scheduled = (long) Math.ceil(targetRate * duration.toNanos() / 1e9);
+        if (scheduled > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many operations to record: " + scheduled);
+        }
+        this.threadCount = threadCount;
+        this.operation = operation;
+        this.targetRate = targetRate;
+        this.durationNanos = duration.toNanos();
+        this.periodNanos = 1e9 / targetRate;
+        this.scheduled = (int) scheduled;
+        this.options = options;
+        this.latencies = new long[this.scheduled];
+        this.serviceTimes = new long[this.scheduled];
+        Arrays.fill(latencies, NOT_SENT);
+        Arrays.fill(serviceTimes, NOT_SENT);
+    }
+
+    /**
+     * @param threadCount size of the worker pool, must be enough to absorb {@code targetRate * latency} in-flight
+     *                    operations, otherwise the generator itself falls behind and reports missed operations
+     * @param targetRate  operations per second
+     */
+    public static ConstantRateLoad of(int threadCount, Runnable operation, double targetRate, Duration duration) {
+        return of(threadCount, operation, targetRate, duration, RunnerOptions.defaults());
+    }
+
+    public static ConstantRateLoad of(int threadCount,
+                                      Runnable operation,
+                                      double targetRate,
+                                      Duration duration,
+                                      RunnerOptions options) {
+        return new ConstantRateLoad(threadCount, operation, targetRate, duration, options);
+    }
+
+    /**
+     * Runs the schedule. Blocks for about the configured duration, a single instance is meant to be run once.
+     */
+    public ConstantRateReport run() throws InterruptedException {
+        try (ParallelRunner<Object> runner = ParallelRunner.forWorkers(threadCount,
+                worker -> Executors.callable(this::runWorker), worker -> Executors.callable(operation), options)) {
+            runner.awaitReadiness();
+            startNanos = System.nanoTime();
+            runner.start();
+            runner.await();
+            long wallNanos = System.nanoTime() - startNanos;
+            int sent = compactSent(latencies);
+            compactSent(serviceTimes);
+            return new ConstantRateReport(targetRate, scheduled, sent, errors.get(), wallNanos,
+                    LatencyStats.of(latencies, sent), LatencyStats.of(serviceTimes, sent));
+        }
+    }
+
+    /**
+     * Moves samples of sent operations to the head of the array.
+     *
+     * @return number of sent operations
+     */
+    private static int compactSent(long[] samples) {
+        int sent = 0;
+        for (long sample : samples) {
+            if (sample != NOT_SENT) {
+                samples[sent++] = sample;
+            }
+        }
+        return sent;
+    }
+
+    private void runWorker() {
+        Thread thread = Thread.currentThread();
+        long start = startNanos;
+        long end = start + durationNanos;
+        long k;
+        while ((k = nextOperation.getAndIncrement()) < scheduled && !thread.isInterrupted()) {
+            long intended = start + (long) (k * periodNanos);
+            long now;
+            while ((now = System.nanoTime()) - intended < 0) {
+                if (thread.isInterrupted()) {
+                    return; // parkNanos returns at once from now on, the loop would spin until the intended time
+                }
+                LockSupport.parkNanos(intended - now);
+            }
+            if (now - end >= 0) {
+                return; // the run is over, the rest of the schedule is missed
+            }
+            try {
+                operation.run();
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+            }
+            long finished = System.nanoTime();
+            latencies[(int) k] = finished - intended;
+            serviceTimes[(int) k] = finished - now;
+        }
+    }
+}
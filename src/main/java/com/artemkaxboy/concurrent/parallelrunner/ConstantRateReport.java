@@ -0,0 +1,92 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+/**
+ * Outcome of a {@link ConstantRateLoad} run.
+ */
+public final class ConstantRateReport {
+
+    private final double targetRate;
+    private final int scheduled;
+    private final int sent;
+    private final long errors;
+    private final long wallNanos;
+    private final LatencyStats latencies;
+    private final LatencyStats serviceTimes;
+
+    ConstantRateReport(double targetRate,
+                       int scheduled,
+                       int sent,
+                       long errors,
+                       long wallNanos,
+                       LatencyStats latencies,
+                       LatencyStats serviceTimes) {
+        this.targetRate = targetRate;
+        this.scheduled = scheduled;
+        this.sent = sent;
+        this.errors = errors;
+        this.wallNanos = wallNanos;
+        this.latencies = latencies;
+        this.serviceTimes = serviceTimes;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * @return operations completed per second of the run
+     */
+    public double getAchievedRate() {
+        return wallNanos == 0 ? 0 : sent * 1e9 / wallNanos;
+    }
+
+    /**
+     * @return how far the achieved rate fell below the target, {@code 0.1} means 10% fewer operations than requested
+     */
+    public double getShortfall() {
+        return Math.max(0, 1 - getAchievedRate() / targetRate);
+    }
+
+    public int getScheduled() {
+        return scheduled;
+    }
+
+    public int getSent() {
+        return sent;
+    }
+
+    /**
+     * @return operations of the schedule that were not started before the end of the run
+     */
+    public int getMissed() {
+        return scheduled - sent;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return time from the intended start to the end of every sent operation, queueing delay included
+     */
+    public LatencyStats getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return time from the actual start to the end of every sent operation, what a closed-loop test would report
+     */
+    public LatencyStats getServiceTimes() {
+        return serviceTimes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("target=%.1f/s, achieved=%.1f/s, missed=%d, errors=%d, latency: %s", targetRate,
+                getAchievedRate(), getMissed(), errors, latencies);
+    }
+}
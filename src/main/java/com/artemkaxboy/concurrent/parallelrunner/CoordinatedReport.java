@@ -0,0 +1,74 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Merged results of all agents of a {@link RunnerCoordinator} run.
+ */
+public final class CoordinatedReport {
+
+    private final int agentCount;
+    private final List<RemoteResult> results;
+    private final long triggerSkewNanos;
+
+    CoordinatedReport(int agentCount, List<RemoteResult> results, long triggerSkewNanos) {
+        this.agentCount = agentCount;
+        this.results = List.copyOf(results);
+        this.triggerSkewNanos = triggerSkewNanos;
+    }
+
+    public int getAgentCount() {
+        return agentCount;
+    }
+
+    public int getThreadCount() {
+        return results.size();
+    }
+
+    /**
+     * @return results ordered by agent, then by worker
+     */
+    public List<RemoteResult> getResults() {
+        return results;
+    }
+
+    public long getFailedCount() {
+        return results.stream().filter(RemoteResult::isException).count();
+    }
+
+    /**
+     * Delays are measured by every agent from the moment the trigger reached it, so they do not include
+     * {@link #getTriggerSkewNanos()}.
+     */
+    public LatencyStats getStartDelays() {
+        return collect(RemoteResult::getStartDelayNanos);
+    }
+
+    public LatencyStats getTaskDurations() {
+        return collect(RemoteResult::getDurationNanos);
+    }
+
+    /**
+     * Only the coordinator-side spread: the time from writing the trigger to the first agent until it was written to
+     * the last. The skew between agents also includes network delivery and wake-up latency on each agent, which is not
+     * measured because agent clocks are not comparable.
+     *
+     * @return nanoseconds the coordinator spent sending the trigger to all agents
+     */
+    public long getTriggerSkewNanos() {
+        return triggerSkewNanos;
+    }
+
+    private LatencyStats collect(ToLongFunction<RemoteResult> metric) {
+        long[] samples = results.stream().mapToLong(metric).filter(it -> it != WorkerTimings.NOT_MEASURED).toArray();
+        return LatencyStats.of(samples);
+    }
+
+    @Override
+    public String toString() {
+        return "CoordinatedReport{agents=" + agentCount + ", threads=" + getThreadCount() + ", failed="
+                + getFailedCount() + ", triggerSkew=" + triggerSkewNanos / 1000 + "us, startDelays=" + getStartDelays()
+                + "}";
+    }
+}
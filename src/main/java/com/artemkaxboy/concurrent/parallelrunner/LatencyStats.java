@@ -0,0 +1,99 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable set of nanosecond samples with exact nearest-rank percentiles.
+ */
+public final class LatencyStats {
+
+    private static final LatencyStats EMPTY = new LatencyStats(new long[0]);
+
+    private final long[] sorted;
+
+    private LatencyStats(long[] sorted) {
+        this.sorted = sorted;
+    }
+
+    public static LatencyStats of(long[] samples) {
+        return of(samples, samples.length);
+    }
+
+    /**
+     * @param samples nanosecond values, only the first {@code count} are used, the array is not modified
+     */
+    public static LatencyStats of(long[] samples, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new LatencyStats(sorted);
+    }
+
+    public int getCount() {
+        return sorted.length;
+    }
+
+    public boolean isEmpty() {
+        return sorted.length == 0;
+    }
+
+    public long getMin() {
+        return isEmpty() ? 0 : sorted[0];
+    }
+
+    public long getMax() {
+        return isEmpty() ? 0 : sorted[sorted.length - 1];
+    }
+
+    public double getMean() {
+        if (isEmpty()) {
+            return 0;
+        }
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        return sum / sorted.length;
+    }
+
+    /**
+     * @return distance between the smallest and the largest sample
+     */
+    public long getSpread() {
+        return getMax() - getMin();
+    }
+
+    /**
+     * @param percentile value in range [0, 100]
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in range [0, 100]: " + percentile);
+        }
+        if (isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * @return copy of the samples in ascending order
+     */
+    public long[] getSamples() {
+        return sorted.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, min=%s, p50=%s, p90=%s, p99=%s, max=%s", getCount(), format(getMin()),
+                format(getPercentile(50)), format(getPercentile(90)), format(getPercentile(99)), format(getMax()));
+    }
+
+    private static String format(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) + "us";
+    }
+}
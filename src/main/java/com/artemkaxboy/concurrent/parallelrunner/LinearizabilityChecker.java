@@ -0,0 +1,354 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records concurrent histories with {@link ParallelRunner} and checks them against a {@link SequentialModel}.
+ * <p>
+ * A history is linearizable if every operation can be given a point between its invocation and response, such that
+ * applying the operations one by one in that order to the model produces the same outputs. The check is the
+ * Wing &amp; Gong search with Lowe's refinements: operations are linearized as early as possible, the search
+ * backtracks when an operation returns before it could be placed, and already visited combinations of linearized
+ * operations and model state are never explored again.
+ */
+public final class LinearizabilityChecker {
+
+    private LinearizabilityChecker() {
+    }
+
+    /**
+     * Runs {@code operationsPerWorker} operations on each of {@code threadCount} workers released at once and records
+     * the invocation and response time of every operation. Inputs are drawn outside the measured window.
+     *
+     * @param operation call to the object under test
+     * @return all recorded operations ordered by invocation
+     * @throws IllegalStateException if any call failed, the history is incomplete then
+     */
+    public static <I, O> List<Operation<I, O>> record(int threadCount,
+                                                      int operationsPerWorker,
+                                                      Supplier<I> inputs,
+                                                      Function<I, O> operation) throws InterruptedException {
+        return record(threadCount, operationsPerWorker, inputs, operation, RunnerOptions.defaults());
+    }
+
+    /**
+     * @param options must not enable {@link RunnerOptions#withWarmup(Warmup) warm-up}: unrecorded calls would change
+     *                the object under test and the history would not start from the model's initial state; warm up
+     *                a separate instance instead
+     */
+    public static <I, O> List<Operation<I, O>> record(int threadCount,
+                                                      int operationsPerWorker,
+                                                      Supplier<I> inputs,
+                                                      Function<I, O> operation,
+                                                      RunnerOptions options) throws InterruptedException {
+        if (options.getWarmup().isEnabled()) {
+            throw new IllegalArgumentException("Warm-up would change the object under test outside the history");
+        }
+        List<Operation<I, O>> history = new ArrayList<>(threadCount * operationsPerWorker);
+        try (ParallelRunner<List<Operation<I, O>>> runner = ParallelRunner.forWorkers(threadCount,
+                worker -> () -> recordWorker(worker, operationsPerWorker, inputs, operation), options)) {
+            runner.start();
+            runner.await();
+            for (ParallelRunner.Result<List<Operation<I, O>>> result : runner.getResults()) {
+                if (result.isException()) {
+                    throw new IllegalStateException("History is incomplete, worker failed", result.getException());
+                }
+                history.addAll(result.getValue());
+            }
+        }
+        history.sort(Comparator.comparingLong(Operation::getInvokeNanos));
+        return history;
+    }
+
+    private static <I, O> List<Operation<I, O>> recordWorker(int worker,
+                                                             int operationCount,
+                                                             Supplier<I> inputs,
+                                                             Function<I, O> operation) {
+        List<Operation<I, O>> operations = new ArrayList<>(operationCount);
+        for (int i = 0; i < operationCount; i++) {
+            I input = inputs.get();
+            long invoked = System.nanoTime();
+            O output = operation.apply(input);
+            long responded = System.nanoTime();
+            operations.add(new Operation<>(worker, input, output, invoked, responded));
+        }
+        return operations;
+    }
+
+    /**
+     * Shortcut for {@link #record} followed by {@link #check}.
+     */
+    public static <S, I, O> LinearizabilityReport<I, O> recordAndCheck(SequentialModel<S, I, O> model,
+                                                                       int threadCount,
+                                                                       int operationsPerWorker,
+                                                                       Supplier<I> inputs,
+                                                                       Function<I, O> operation)
+            throws InterruptedException {
+        return check(model, record(threadCount, operationsPerWorker, inputs, operation));
+    }
+
+    /**
+     * @param history completed operations in any order
+     */
+    public static <S, I, O> LinearizabilityReport<I, O> check(SequentialModel<S, I, O> model,
+                                                              List<Operation<I, O>> history) {
+        Map<Object, List<Operation<I, O>>> partitions = new LinkedHashMap<>();
+        for (Operation<I, O> operation : history) {
+            partitions.computeIfAbsent(model.partitionKey(operation.getInput()), key -> new ArrayList<>())
+                    .add(operation);
+        }
+        for (Map.Entry<Object, List<Operation<I, O>>> partition : partitions.entrySet()) {
+            LinearizabilityReport<I, O> report = new Search<>(model, partition.getValue()).run(partition.getKey());
+            if (!report.isLinearizable()) {
+                return new LinearizabilityReport<>(false, history.size(), report.getPartitionKey(),
+                        report.getLongestPrefix(), report.getBlockedOperation());
+            }
+        }
+        return new LinearizabilityReport<>(true, history.size(), null, Collections.emptyList(), null);
+    }
+
+    /**
+     * Single completed call to the object under test.
+     */
+    public static final class Operation<I, O> {
+
+        private final int worker;
+        private final I input;
+        private final O output;
+        private final long invokeNanos;
+        private final long responseNanos;
+
+        /**
+         * @param invokeNanos   {@link System#nanoTime()} right before the call
+         * @param responseNanos {@link System#nanoTime()} right after the call
+         */
+        public Operation(int worker, I input, O output, long invokeNanos, long responseNanos) {
+            if (responseNanos < invokeNanos) {
+                throw new IllegalArgumentException("Response before invocation: " + invokeNanos + " > " + responseNanos);
+            }
+            this.worker = worker;
+            this.input = input;
+            this.output = output;
+            this.invokeNanos = invokeNanos;
+            this.responseNanos = responseNanos;
+        }
+
+        public int getWorker() {
+            return worker;
+        }
+
+        public I getInput() {
+            return input;
+        }
+
+        public O getOutput() {
+            return output;
+        }
+
+        public long getInvokeNanos() {
+            return invokeNanos;
+        }
+
+        public long getResponseNanos() {
+            return responseNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "worker " + worker + ": " + input + " -> " + output + " [" + invokeNanos + ".." + responseNanos + "]";
+        }
+    }
+
+    /**
+     * Search over a single partition. Invocations and responses form a doubly linked list ordered by time, linearized
+     * operations are unlinked from it and relinked on backtracking.
+     */
+    private static final class Search<S, I, O> {
+
+        private final SequentialModel<S, I, O> model;
+        private final List<Operation<I, O>> operations;
+        private final Event head = new Event(-1, true, Long.MIN_VALUE);
+
+        private Search(SequentialModel<S, I, O> model, List<Operation<I, O>> operations) {
+            this.model = model;
+            this.operations = operations;
+        }
+
+        private LinearizabilityReport<I, O> run(Object partitionKey) {
+            link();
+            int size = operations.size();
+            S state = model.initialState();
+            BitSet linearized = new BitSet(size);
+            Set<Visited<S>> visited = new HashSet<>();
+            Deque<Step<S>> steps = new ArrayDeque<>();
+            int[] longest = new int[0];
+            int blocked = -1;
+
+            Event event = head.next;
+            while (head.next != null) {
+                if (event.invocation) {
+                    Operation<I, O> operation = operations.get(event.operation);
+                    S next = model.step(state, operation.getInput(), operation.getOutput());
+                    if (next != null) {
+                        BitSet candidate = (BitSet) linearized.clone();
+                        candidate.set(event.operation);
+                        if (visited.add(new Visited<>(candidate, next))) {
+                            steps.push(new Step<>(event, state, linearized));
+                            state = next;
+                            linearized = candidate;
+                            event.unlink();
+                            if (steps.size() > longest.length) {
+                                longest = order(steps);
+                                blocked = -1;
+                            }
+                            event = head.next;
+                            continue;
+                        }
+                    }
+                    event = event.next;
+                } else {
+                    // the operation returned before any order could place it, undo the latest choice
+                    if (blocked < 0 && steps.size() == longest.length) {
+                        blocked = event.operation;
+                    }
+                    if (steps.isEmpty()) {
+                        return new LinearizabilityReport<>(false, size, partitionKey,
+                                Arrays.stream(longest).mapToObj(operations::get).toList(), operations.get(blocked));
+                    }
+                    Step<S> step = steps.pop();
+                    state = step.state;
+                    linearized = step.linearized;
+                    step.event.relink();
+                    event = step.event.next;
+                }
+            }
+            return new LinearizabilityReport<>(true, size, partitionKey, Collections.emptyList(), null);
+        }
+
+        /**
+         * Invocations go before responses with the same timestamp, such operations are treated as concurrent.
+         */
+        private void link() {
+            List<Event> events = new ArrayList<>(operations.size() * 2);
+            for (int i = 0; i < operations.size(); i++) {
+                Operation<I, O> operation = operations.get(i);
+                Event invocation = new Event(i, true, operation.getInvokeNanos());
+                invocation.response = new Event(i, false, operation.getResponseNanos());
+                events.add(invocation);
+                events.add(invocation.response);
+            }
+            events.sort(Comparator.comparingLong((Event it) -> it.time).thenComparing(it -> !it.invocation));
+            Event previous = head;
+            for (Event event : events) {
+                previous.next = event;
+                event.prev = previous;
+                previous = event;
+            }
+        }
+
+        /**
+         * @return linearized operations, the stack top being the last one
+         */
+        private int[] order(Deque<Step<S>> steps) {
+            int[] order = new int[steps.size()];
+            int i = order.length;
+            for (Step<S> step : steps) {
+                order[--i] = step.event.operation;
+            }
+            return order;
+        }
+    }
+
+    private static final class Event {
+
+        private final int operation;
+        private final boolean invocation;
+        private final long time;
+        private Event response;
+        private Event prev;
+        private Event next;
+
+        private Event(int operation, boolean invocation, long time) {
+            this.operation = operation;
+            this.invocation = invocation;
+            this.time = time;
+        }
+
+        /**
+         * Removes the invocation together with its response.
+         */
+        private void unlink() {
+            prev.next = next;
+            if (next != null) {
+                next.prev = prev;
+            }
+            response.prev.next = response.next;
+            if (response.next != null) {
+                response.next.prev = response.prev;
+            }
+        }
+
+        /**
+         * Reverses {@link #unlink()}, the neighbours are restored in the opposite order.
+         */
+        private void relink() {
+            response.prev.next = response;
+            if (response.next != null) {
+                response.next.prev = response;
+            }
+            prev.next = this;
+            if (next != null) {
+                next.prev = this;
+            }
+        }
+    }
+
+    private static final class Step<S> {
+
+        private final Event event;
+        private final S state;
+        private final BitSet linearized;
+
+        private Step(Event event, S state, BitSet linearized) {
+            this.event = event;
+            this.state = state;
+            this.linearized = linearized;
+        }
+    }
+
+    private static final class Visited<S> {
+
+        private final BitSet linearized;
+        private final S state;
+
+        private Visited(BitSet linearized, S state) {
+            this.linearized = linearized;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Visited<?> other && linearized.equals(other.linearized)
+                    && Objects.equals(state, other.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * linearized.hashCode() + Objects.hashCode(state);
+        }
+    }
+}
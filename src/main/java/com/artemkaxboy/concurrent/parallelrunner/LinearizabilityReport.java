@@ -0,0 +1,71 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Verdict of {@link LinearizabilityChecker#check}. For a non-linearizable history it holds the longest sequential
+ * order the checker managed to build and the operation that could not be placed after it.
+ */
+public final class LinearizabilityReport<I, O> {
+
+    private final boolean linearizable;
+    private final int operationCount;
+    private final Object partitionKey;
+    private final List<LinearizabilityChecker.Operation<I, O>> longestPrefix;
+    private final LinearizabilityChecker.Operation<I, O> blockedOperation;
+
+    LinearizabilityReport(boolean linearizable,
+                          int operationCount,
+                          Object partitionKey,
+                          List<LinearizabilityChecker.Operation<I, O>> longestPrefix,
+                          LinearizabilityChecker.Operation<I, O> blockedOperation) {
+        this.linearizable = linearizable;
+        this.operationCount = operationCount;
+        this.partitionKey = partitionKey;
+        this.longestPrefix = longestPrefix;
+        this.blockedOperation = blockedOperation;
+    }
+
+    public boolean isLinearizable() {
+        return linearizable;
+    }
+
+    public int getOperationCount() {
+        return operationCount;
+    }
+
+    /**
+     * @return partition of the offending history, {@code null} if the model does not partition operations
+     */
+    public Object getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * @return longest linearization found for the offending partition, empty for a linearizable history
+     */
+    public List<LinearizabilityChecker.Operation<I, O>> getLongestPrefix() {
+        return longestPrefix;
+    }
+
+    /**
+     * @return operation that had to take effect after {@link #getLongestPrefix()} but is illegal there, {@code null}
+     * for a linearizable history
+     */
+    public LinearizabilityChecker.Operation<I, O> getBlockedOperation() {
+        return blockedOperation;
+    }
+
+    @Override
+    public String toString() {
+        if (linearizable) {
+            return "Linearizable history of " + operationCount + " operations";
+        }
+        return "Non-linearizable history of " + operationCount + " operations"
+                + (partitionKey == null ? "" : " in partition " + partitionKey)
+                + "\nlongest linearization:\n  "
+                + longestPrefix.stream().map(Object::toString).collect(Collectors.joining("\n  "))
+                + "\ncannot be followed by:\n  " + blockedOperation;
+    }
+}
@@ -0,0 +1,54 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.time.Duration;
+
+/**
+ * How long every worker of {@link ParallelRunner#forSustainedLoad(int, Runnable, LoadLimit)} keeps looping.
+ */
+public final class LoadLimit {
+
+    private final long iterations;
+    private final long durationNanos;
+
+    private LoadLimit(long iterations, long durationNanos) {
+        this.iterations = iterations;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Every worker runs the operation exactly {@code iterations} times.
+     */
+    public static LoadLimit iterations(long iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        return new LoadLimit(iterations, Long.MAX_VALUE);
+    }
+
+    /**
+     * Every worker runs the operation until {@code duration} has passed since its own start.
+     */
+    public static LoadLimit duration(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+        return new LoadLimit(Long.MAX_VALUE, duration.toNanos());
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    boolean isTimed() {
+        return durationNanos != Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return isTimed() ? Duration.ofNanos(durationNanos).toString() : iterations + " iterations";
+    }
+}
@@ -0,0 +1,115 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Aggregated throughput of a {@link ParallelRunner#forSustainedLoad(int, Runnable, LoadLimit)} run.
+ */
+public final class LoadReport {
+
+    private final List<WorkerLoad> workers;
+    private final int failedWorkers;
+    private final long operations;
+    private final long errors;
+    private final long wallNanos;
+
+    private LoadReport(List<WorkerLoad> workers, int failedWorkers, long wallNanos) {
+        this.workers = workers;
+        this.failedWorkers = failedWorkers;
+        this.wallNanos = wallNanos;
+        this.operations = workers.stream().mapToLong(WorkerLoad::getOperations).sum();
+        this.errors = workers.stream().mapToLong(WorkerLoad::getErrors).sum();
+    }
+
+    /**
+     * Blocks until the runner is finished.
+     */
+    public static LoadReport of(ParallelRunner<WorkerLoad> runner) {
+        return of(runner.getResults());
+    }
+
+    /**
+     * Wall time is the longest worker loop, for counters that were not measured by a {@link ParallelRunner} trigger.
+     */
+    static LoadReport ofWorkers(List<WorkerLoad> workers) {
+        return new LoadReport(workers, 0, workers.stream().mapToLong(WorkerLoad::getElapsedNanos).max().orElse(0));
+    }
+
+    public static LoadReport of(Collection<ParallelRunner.Result<WorkerLoad>> results) {
+        List<WorkerLoad> workers = new ArrayList<>(results.size());
+        int failedWorkers = 0;
+        long firstStart = Long.MAX_VALUE;
+        long lastFinish = Long.MIN_VALUE;
+        for (ParallelRunner.Result<WorkerLoad> result : results) {
+            if (result.isException()) {
+                failedWorkers++;
+                continue;
+            }
+            workers.add(result.getValue());
+            if (result.getStartDelayNanos() >= 0) {
+                firstStart = Math.min(firstStart, result.getStartDelayNanos());
+                lastFinish = Math.max(lastFinish, result.getStartDelayNanos() + result.getDurationNanos());
+            }
+        }
+        long wallNanos = firstStart == Long.MAX_VALUE
+                ? workers.stream().mapToLong(WorkerLoad::getElapsedNanos).max().orElse(0)
+                : lastFinish - firstStart;
+        return new LoadReport(workers, failedWorkers, wallNanos);
+    }
+
+    /**
+     * @return per-worker counters of the workers that finished their loop
+     */
+    public List<WorkerLoad> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return workers that never ran their loop, e.g. because the runner was closed before the start
+     */
+    public int getFailedWorkers() {
+        return failedWorkers;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getErrorRate() {
+        return operations == 0 ? 0 : (double) errors / operations;
+    }
+
+    /**
+     * @return nanoseconds from the first worker start to the last worker finish
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return all operations divided by the wall time of the run
+     */
+    public double getOpsPerSecond() {
+        return wallNanos == 0 ? 0 : operations * 1e9 / wallNanos;
+    }
+
+    public long[] getOperationsPerWorker() {
+        return workers.stream().mapToLong(WorkerLoad::getOperations).toArray();
+    }
+
+    public long[] getErrorsPerWorker() {
+        return workers.stream().mapToLong(WorkerLoad::getErrors).toArray();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("workers=%d, ops=%d, errors=%d (%.2f%%), ops/s=%.1f", workers.size(), operations, errors,
+                getErrorRate() * 100, getOpsPerSecond());
+    }
+}
@@ -0,0 +1,198 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LongSummaryStatistics;
+import java.util.function.IntSupplier;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ParallelRunner} for numeric outcomes such as counters or latencies. Every worker stores its value into its own
+ * slot of a {@code long[]}, so values are never boxed, and reductions fold the slots in completion order as workers
+ * complete, without copying results into collections.
+ * <p>
+ * Only boxing is saved: every worker still has the {@link ParallelRunner}'s per-worker objects &mdash; its
+ * {@link java.util.concurrent.Future}, task wrapper and a {@link ParallelRunner.Result} with a {@code null} value
+ * &mdash; since they carry cancellation, exceptions and timings.
+ * <p>
+ * Workers that failed are left out of reductions, see {@link #getFailedCount()} and {@link #getExceptions()}.
+ */
+public final class LongParallelRunner implements AutoCloseable {
+
+    private final ParallelRunner<Void> runner;
+    private final long[] values;
+
+    private LongParallelRunner(int threadCount, LongSupplier supplier, RunnerOptions options) {
+        this.values = new long[threadCount];
+        this.runner = ParallelRunner.forWorkers(threadCount, worker -> () -> {
+            values[worker] = supplier.getAsLong();
+            return null;
+        }, worker -> supplier::getAsLong, options);
+    }
+
+    public static LongParallelRunner forLongSupplier(int threadCount, LongSupplier supplier) {
+        return forLongSupplier(threadCount, supplier, RunnerOptions.defaults());
+    }
+
+    public static LongParallelRunner forLongSupplier(int threadCount, LongSupplier supplier, RunnerOptions options) {
+        return new LongParallelRunner(threadCount, supplier, options);
+    }
+
+    /**
+     * Values are widened to {@code long}.
+     */
+    public static LongParallelRunner forIntSupplier(int threadCount, IntSupplier supplier) {
+        return forIntSupplier(threadCount, supplier, RunnerOptions.defaults());
+    }
+
+    public static LongParallelRunner forIntSupplier(int threadCount, IntSupplier supplier, RunnerOptions options) {
+        return new LongParallelRunner(threadCount, supplier::getAsInt, options);
+    }
+
+    public int getThreadCount() {
+        return runner.getThreadCount();
+    }
+
+    public void awaitReadiness() throws InterruptedException {
+        runner.awaitReadiness();
+    }
+
+    public void start() {
+        runner.start();
+    }
+
+    public void await() throws InterruptedException {
+        runner.await();
+    }
+
+    public boolean await(Duration timeout) throws InterruptedException {
+        return runner.await(timeout);
+    }
+
+    @Override
+    public void close() {
+        runner.close();
+    }
+
+    public boolean isDown() {
+        return runner.isDown();
+    }
+
+    public LatencyStats getStartDelays() {
+        return runner.getStartDelays();
+    }
+
+    public LatencyStats getTaskDurations() {
+        return runner.getTaskDurations();
+    }
+
+    public LoadReport getWarmup() {
+        return runner.getWarmup();
+    }
+
+    /**
+     * Folds values of successful workers in completion order, each one as soon as its worker completes. Blocks until
+     * all workers are completed.
+     *
+     * @param accumulator called on the calling thread only, needs no synchronization
+     */
+    public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator) throws InterruptedException {
+        R container = supplier.get();
+        runner.forEachCompleted((result, worker) -> {
+            if (result.isValue()) {
+                accumulator.accept(container, values[worker]);
+            }
+        });
+        return container;
+    }
+
+    /**
+     * @return {@code identity} if no worker succeeded
+     */
+    public long reduce(long identity, LongBinaryOperator operator) throws InterruptedException {
+        long[] accumulator = {identity};
+        collect(() -> accumulator, (it, value) -> it[0] = operator.applyAsLong(it[0], value));
+        return accumulator[0];
+    }
+
+    public long sum() throws InterruptedException {
+        return reduce(0, Long::sum);
+    }
+
+    /**
+     * @return {@link Long#MAX_VALUE} if no worker succeeded
+     */
+    public long min() throws InterruptedException {
+        return reduce(Long.MAX_VALUE, Math::min);
+    }
+
+    /**
+     * @return {@link Long#MIN_VALUE} if no worker succeeded
+     */
+    public long max() throws InterruptedException {
+        return reduce(Long.MIN_VALUE, Math::max);
+    }
+
+    public LongSummaryStatistics summaryStatistics() throws InterruptedException {
+        return collect(LongSummaryStatistics::new, LongSummaryStatistics::accept);
+    }
+
+    /**
+     * Counts values into buckets: bucket {@code i} holds values not greater than {@code upperBounds[i]} and greater
+     * than the previous bound, the extra last bucket holds values greater than all bounds.
+     *
+     * @param upperBounds inclusive bucket bounds in ascending order
+     * @return {@code upperBounds.length + 1} counts
+     */
+    public long[] histogram(long... upperBounds) throws InterruptedException {
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must ascend: " + Arrays.toString(upperBounds));
+            }
+        }
+        return collect(() -> new long[upperBounds.length + 1], (counts, value) -> {
+            int bucket = Arrays.binarySearch(upperBounds, value);
+            counts[bucket >= 0 ? bucket : -bucket - 1]++;
+        });
+    }
+
+    /**
+     * @return values of successful workers in worker order
+     */
+    public long[] toArray() throws InterruptedException {
+        runner.await();
+        long[] successful = new long[values.length];
+        int count = 0;
+        int worker = 0;
+        for (ParallelRunner.Result<Void> result : runner.getResults()) {
+            if (result.isValue()) {
+                successful[count++] = values[worker];
+            }
+            worker++;
+        }
+        return Arrays.copyOf(successful, count);
+    }
+
+    /**
+     * Blocks until all workers are completed.
+     */
+    public long getFailedCount() {
+        return runner.getResultExceptions().size();
+    }
+
+    /**
+     * Blocks until all workers are completed.
+     *
+     * @return exceptions of failed workers in worker order
+     */
+    public Collection<Exception> getExceptions() {
+        return runner.getResultExceptions().stream()
+                .map(ParallelRunner.Result::getException)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,97 +1,314 @@
 package com.artemkaxboy.concurrent.parallelrunner;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ParallelRunner<T> implements AutoCloseable {
 
+    /**
+     * Operation name of every worker of a runner created by any factory other than {@link #forMix}.
+     */
+    public static final String DEFAULT_OPERATION = "default";
+
     private static final Logger log = LoggerFactory.getLogger(ParallelRunner.class);
+    private static final AtomicLong ids = new AtomicLong();
 
+    private final long id = ids.incrementAndGet();
     private final ExecutorService executorService;
+    private final boolean ownsExecutor;
     private final int threadCount;
+    private final String[] operations;
     private final CountDownLatch startLatch;
     private final CountDownLatch finishLatch;
-    private final CountDownLatch trigger;
-    private final Thread shutdownHookThread;
+    private final StartGate trigger;
+    private final boolean failFast;
+    private final WorkerTimings timings;
+    private final WorkerResources resources;
+    private final Warmup warmup;
+    private final WorkerLoad[] warmups;
+    private final ReentrantLock completionLock = new ReentrantLock();
+    private final Condition completionChanged = completionLock.newCondition();
+    private final Result<T>[] results;
+    private final int[] completionOrder;
+    private int completedCount;
+    private boolean failed;
+    private volatile boolean closed;
     private List<Future<T>> tasks;
 
-    private ParallelRunner(int threadCount) {
-        this.executorService = Executors.newFixedThreadPool(threadCount);
+    private ParallelRunner(int threadCount, String[] operations, RunnerOptions options) {
+        checkOptions(threadCount, options);
+        this.ownsExecutor = options.getExecutor() == null;
+        this.executorService = ownsExecutor ? newExecutorService(threadCount, options) : options.getExecutor();
         this.threadCount = threadCount;
+        this.operations = operations;
         this.startLatch = new CountDownLatch(threadCount);
         this.finishLatch = new CountDownLatch(threadCount);
-        this.trigger = new CountDownLatch(1);
+        this.trigger = StartGate.create(options.getStartMode());
+        this.timings = new WorkerTimings(threadCount);
+        this.resources = new WorkerResources(threadCount, options.isResourceAccounting());
+        //noinspection unchecked
+        this.results = new Result[threadCount];
+        this.completionOrder = new int[threadCount];
+        this.failFast = options.isFailFast();
+        this.warmup = options.getWarmup();
+        this.warmups = new WorkerLoad[warmup.isEnabled() ? threadCount : 0];
+    }
 
-        this.shutdownHookThread = new Thread(() -> {
-            try {
-                this.finishLatch.await();
-            } catch (InterruptedException ignored) {
-            } finally {
-                this.executorService.shutdown();
+    private static void checkOptions(int threadCount, RunnerOptions options) {
+        if (options.getExecutor() instanceof ThreadPoolExecutor pool) {
+            if (pool.getMaximumPoolSize() < threadCount) {
+                throw new IllegalArgumentException("Executor can run at most " + pool.getMaximumPoolSize()
+                        + " tasks at once, the runner needs " + threadCount + " workers running together");
+            }
+            // a queueing pool grows beyond its core size only when the queue is full, so workers would wait in it
+            if (!(pool.getQueue() instanceof SynchronousQueue) && pool.getCorePoolSize() < threadCount) {
+                throw new IllegalArgumentException("Executor queues tasks beyond its " + pool.getCorePoolSize()
+                        + " core threads, the runner needs " + threadCount + " workers running together");
+            }
+        }
+        if (options.getStartMode() == RunnerOptions.StartMode.SPIN) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            if (threadCount > cores) {
+                throw new IllegalArgumentException(
+                        "Spin start gate needs a core per worker: " + threadCount + " workers, " + cores + " cores");
+            }
+            if (options.getThreadMode() != RunnerOptions.ThreadMode.PLATFORM) {
+                throw new IllegalArgumentException("Spin start gate requires platform threads");
             }
-        });
-        this.shutdownHookThread.start();
+        }
+        if (options.isResourceAccounting() && options.getExecutor() == null
+                && options.getThreadMode() != RunnerOptions.ThreadMode.PLATFORM) {
+            throw new IllegalArgumentException("Resource accounting requires platform threads");
+        }
     }
 
-    public static ParallelRunner<Void> forRunnable(int threadCount, Runnable runnable) {
+    private static ExecutorService newExecutorService(int threadCount, RunnerOptions options) {
+        return switch (options.getThreadMode()) {
+            case PLATFORM -> Executors.newFixedThreadPool(threadCount);
+            case VIRTUAL -> VirtualThreads.newExecutor();
+        };
+    }
 
-        ParallelRunner<Void> runner = new ParallelRunner<>(threadCount);
-        List<Future<Void>> tasks = IntStream.range(0, threadCount).mapToObj(i -> {
-            TaskWorkerRunnable task =
-                    new TaskWorkerRunnable(runnable, runner.startLatch, runner.finishLatch, runner.trigger);
-            //noinspection unchecked
-            return (Future<Void>) runner.executorService.submit(task);
-        }).toList();
+    public static ParallelRunner<Void> forRunnable(int threadCount, Runnable runnable) {
+        return forRunnable(threadCount, runnable, RunnerOptions.defaults());
+    }
 
-        runner.setTasks(tasks);
-        return runner;
+    public static ParallelRunner<Void> forRunnable(int threadCount, Runnable runnable, RunnerOptions options) {
+        return create(threadCount, () -> {
+            runnable.run();
+            return null;
+        }, options);
     }
 
     public static <T> ParallelRunner<T> forSupplier(int threadCount, Supplier<T> supplier) {
+        return forSupplier(threadCount, supplier, RunnerOptions.defaults());
+    }
 
-        ParallelRunner<T> runner = new ParallelRunner<>(threadCount);
-        List<Future<T>> tasks = IntStream.range(0, threadCount).mapToObj(i -> {
-            TaskWorkerSupplier<T> task =
-                    new TaskWorkerSupplier<>(supplier, runner.startLatch, runner.finishLatch, runner.trigger);
-            return runner.executorService.submit(task);
-        }).toList();
-
-        runner.setTasks(tasks);
-        return runner;
+    public static <T> ParallelRunner<T> forSupplier(int threadCount, Supplier<T> supplier, RunnerOptions options) {
+        return create(threadCount, supplier::get, options);
     }
 
     public static <T, R> ParallelRunner<R> forFunctionStatic(int threadCount, Function<T, R> function, T argument) {
-        return forFunction(threadCount, function, (Supplier<T>) () -> argument);
+        return forFunctionStatic(threadCount, function, argument, RunnerOptions.defaults());
+    }
+
+    public static <T, R> ParallelRunner<R> forFunctionStatic(int threadCount,
+                                                             Function<T, R> function,
+                                                             T argument,
+                                                             RunnerOptions options) {
+        return forFunction(threadCount, function, (Supplier<T>) () -> argument, options);
     }
 
     public static <T, R> ParallelRunner<R> forFunction(int threadCount,
                                                        Function<T, R> function,
                                                        Supplier<T> argumentGetter) {
+        return forFunction(threadCount, function, argumentGetter, RunnerOptions.defaults());
+    }
 
-        ParallelRunner<R> runner = new ParallelRunner<>(threadCount);
-        List<Future<R>> tasks = IntStream.range(0, threadCount).mapToObj(i -> {
-            TaskWorkerFunction<T, R> task = new TaskWorkerFunction<>(
-                    function, argumentGetter, runner.startLatch, runner.finishLatch, runner.trigger);
-            return runner.executorService.submit(task);
-        }).toList();
+    public static <T, R> ParallelRunner<R> forFunction(int threadCount,
+                                                       Function<T, R> function,
+                                                       Supplier<T> argumentGetter,
+                                                       RunnerOptions options) {
+        return create(threadCount, () -> function.apply(argumentGetter.get()), options);
+    }
+
+    public static ParallelRunner<WorkerLoad> forSustainedLoad(int threadCount, Runnable operation, LoadLimit limit) {
+        return forSustainedLoad(threadCount, operation, limit, RunnerOptions.defaults());
+    }
+
+    /**
+     * Every worker runs the operation in a loop until the limit is reached, counting operations and errors in local
+     * variables, and returns a single {@link WorkerLoad}. Aggregate the results with {@link LoadReport#of}.
+     */
+    public static ParallelRunner<WorkerLoad> forSustainedLoad(int threadCount,
+                                                              Runnable operation,
+                                                              LoadLimit limit,
+                                                              RunnerOptions options) {
+        return create(threadCount, worker -> () -> runLoop(operation, limit), worker -> Executors.callable(operation),
+                defaultOperations(threadCount), options);
+    }
+
+    /**
+     * Only fixed thread counts are allowed, the runner gets exactly {@link WorkloadMix#getFixedThreadCount()} workers.
+     */
+    public static <T> ParallelRunner<T> forMix(WorkloadMix<T> mix) {
+        return forMix(mix.getFixedThreadCount(), mix, RunnerOptions.defaults());
+    }
 
+    public static <T> ParallelRunner<T> forMix(int threadCount, WorkloadMix<T> mix) {
+        return forMix(threadCount, mix, RunnerOptions.defaults());
+    }
+
+    /**
+     * Workers run different operations of the mix but are released by the same trigger. Results and timings can be
+     * broken down with {@link #getResultsByOperation()}, {@link #getStartDelays(String)} and
+     * {@link #getTaskDurations(String)}.
+     */
+    public static <T> ParallelRunner<T> forMix(int threadCount, WorkloadMix<T> mix, RunnerOptions options) {
+        int[] assignment = mix.assign(threadCount);
+        String[] operations = new String[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            operations[i] = mix.name(assignment[i]);
+        }
+        return create(threadCount, worker -> mix.supplier(assignment[worker])::get, operations, options);
+    }
+
+    /**
+     * Every worker gets its own callable, for wrappers that keep per-worker state such as {@link LongParallelRunner}.
+     */
+    static <T> ParallelRunner<T> forWorkers(int threadCount,
+                                            IntFunction<Callable<T>> callables,
+                                            RunnerOptions options) {
+        if (options.getWarmup().isEnabled()) {
+            // per-worker callables usually write state, warming them up would change it before the measured round
+            throw new IllegalArgumentException("Warm-up of per-worker callables needs explicit warm-up callables");
+        }
+        return forWorkers(threadCount, callables, callables::apply, options);
+    }
+
+    /**
+     * Same as {@link #forWorkers(int, IntFunction, RunnerOptions)}, warming up with other callables, for tasks that are
+     * loops themselves or that write per-worker state which the warm-up must not touch.
+     */
+    static <T> ParallelRunner<T> forWorkers(int threadCount,
+                                            IntFunction<Callable<T>> callables,
+                                            IntFunction<Callable<?>> warmups,
+                                            RunnerOptions options) {
+        return create(threadCount, callables, warmups, defaultOperations(threadCount), options);
+    }
+
+    private static String[] defaultOperations(int threadCount) {
+        String[] operations = new String[threadCount];
+        Arrays.fill(operations, DEFAULT_OPERATION);
+        return operations;
+    }
+
+    private static WorkerLoad runLoop(Runnable operation, LoadLimit limit) {
+        Thread thread = Thread.currentThread();
+        long iterations = limit.getIterations();
+        boolean timed = limit.isTimed();
+        long start = System.nanoTime();
+        long deadline = start + limit.getDurationNanos();
+        long operations = 0;
+        long errors = 0;
+        RuntimeException firstError = null;
+        while (operations < iterations && !thread.isInterrupted() && (!timed || System.nanoTime() - deadline < 0)) {
+            try {
+                operation.run();
+            } catch (RuntimeException e) {
+                if (errors++ == 0) {
+                    firstError = e;
+                }
+            }
+            operations++;
+        }
+        return new WorkerLoad(operations, errors, System.nanoTime() - start, firstError);
+    }
+
+    private static <T> ParallelRunner<T> create(int threadCount, Callable<T> callable, RunnerOptions options) {
+        return create(threadCount, worker -> callable, worker -> callable, defaultOperations(threadCount), options);
+    }
+
+    private static <T> ParallelRunner<T> create(int threadCount,
+                                                IntFunction<Callable<T>> callables,
+                                                String[] operations,
+                                                RunnerOptions options) {
+        return create(threadCount, callables, callables::apply, operations, options);
+    }
+
+    private static <T> ParallelRunner<T> create(int threadCount,
+                                                IntFunction<Callable<T>> callables,
+                                                IntFunction<Callable<?>> warmups,
+                                                String[] operations,
+                                                RunnerOptions options) {
+
+        ParallelRunner<T> runner = new ParallelRunner<>(threadCount, operations, options);
+        List<Future<T>> tasks = new ArrayList<>(threadCount);
         runner.setTasks(tasks);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                TaskWorker<T> task = new TaskWorker<>(
+                        callables.apply(i), runner.warmupTask(warmups, i), runner.id, i, operations[i],
+                        runner.startLatch, runner.finishLatch, runner.trigger, runner.timings, runner.resources);
+                tasks.add(runner.submit(task, i));
+            }
+        } catch (RejectedExecutionException e) {
+            // do not leave already submitted workers parked forever in a borrowed pool
+            runner.close();
+            throw e;
+        }
         return runner;
     }
 
+    /**
+     * @return warm-up of the given worker, storing its counters in {@link #warmups}; {@code null} if disabled
+     */
+    private Runnable warmupTask(IntFunction<Callable<?>> warmups, int worker) {
+        if (!warmup.isEnabled()) {
+            return null;
+        }
+        Callable<?> task = warmups.apply(worker);
+        return () -> this.warmups[worker] = warmup.run(task);
+    }
+
+    /**
+     * @return process-wide unique id of the runner, as reported in its JFR events
+     */
+    public long getId() {
+        return id;
+    }
+
     public int getThreadCount() {
         return threadCount;
     }
@@ -108,179 +325,519 @@ public class ParallelRunner<T> implements AutoCloseable {
         return getStartedThreadCount() - getFinishedThreadCount();
     }
 
+    /**
+     * Blocks until all workers are parked at the trigger, or the runner is closed.
+     */
     public void awaitReadiness() throws InterruptedException {
         long count;
         boolean interrupted = false;
-        while ((count = startLatch.getCount()) > 0 && !interrupted) {
+        while ((count = startLatch.getCount()) > 0 && !interrupted && !closed) {
             log.debug("Waiting for {} threads to be ready...", count);
             interrupted = startLatch.await(100, TimeUnit.MILLISECONDS);
         }
     }
 
     public void start() {
-        trigger.countDown();
+        RunnerEvents.TriggerReleased event = new RunnerEvents.TriggerReleased();
+        event.begin();
+        timings.triggered();
+        trigger.open();
+        if (event.shouldCommit()) {
+            event.runnerId = id;
+            event.threadCount = threadCount;
+            event.readyWorkers = getStartedThreadCount();
+            event.commit();
+        }
     }
 
+    /**
+     * Blocks until every worker has completed, normally, exceptionally or by cancellation.
+     */
     public void await() throws InterruptedException {
-        long count;
-        boolean interrupted = false;
-        while ((count = finishLatch.getCount()) > 0 && !interrupted) {
-            log.debug("Waiting for {} threads to finish...", count);
-            interrupted = finishLatch.await(100, TimeUnit.MILLISECONDS);
-        }
+        log.debug("Waiting for {} threads to finish...", threadCount);
+        awaitCompleted(threadCount - 1);
+    }
+
+    /**
+     * Waits at most {@code timeout} for every worker to complete. Workers still running after the timeout are left
+     * alone, use {@link #getResults(Duration)} to collect what is ready and {@link #close()} to interrupt the rest.
+     *
+     * @return whether all workers completed in time
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        return awaitCompleted(threadCount - 1, timeout.toNanos()) == threadCount;
     }
 
     public void interrupt() {
         close();
     }
 
+    /**
+     * Interrupts the workers. An own executor is shut down, a borrowed one is left running and only the tasks of
+     * this runner are cancelled. Workers that never got a thread are cancelled, so every worker completes and no
+     * waiting method blocks on them.
+     */
     @Override
     public void close() {
-        executorService.shutdownNow();
-        shutdownHookThread.interrupt();
+        RunnerEvents.RunnerClose event = new RunnerEvents.RunnerClose();
+        event.begin();
+        closed = true;
+        if (ownsExecutor) {
+            for (Runnable neverStarted : executorService.shutdownNow()) {
+                ((Future<?>) neverStarted).cancel(false);
+            }
+        } else {
+            tasks.forEach(task -> task.cancel(true));
+        }
+        if (event.shouldCommit()) {
+            event.runnerId = id;
+            event.completedWorkers = getFinishedThreadCount();
+            event.threadCount = threadCount;
+            event.commit();
+        }
     }
 
+    /**
+     * An own executor is shut down by the last completing worker, there is no watcher thread.
+     *
+     * @return whether an own executor is shut down, or all tasks of this runner are done in a borrowed one
+     */
     public boolean isDown() {
-        return executorService.isShutdown();
+        if (ownsExecutor) {
+            return executorService.isShutdown();
+        }
+        return tasks.stream().allMatch(Future::isDone);
+    }
+
+    /**
+     * Time between {@link #start()} and the first instruction of each released worker. The spread of these values
+     * shows how tightly the trigger aligned the workers. Meant to be read after the run is finished.
+     */
+    public LatencyStats getStartDelays() {
+        return timings.startDelays();
+    }
+
+    /**
+     * Time each released worker spent in the task. Meant to be read after the run is finished.
+     */
+    public LatencyStats getTaskDurations() {
+        return timings.durations();
+    }
+
+    /**
+     * @return timings of the workers running the given {@link #forMix mix} operation
+     */
+    public LatencyStats getStartDelays(String operation) {
+        return timings.startDelays(worker -> operations[worker].equals(operation));
+    }
+
+    /**
+     * @return timings of the workers running the given {@link #forMix mix} operation
+     */
+    public LatencyStats getTaskDurations(String operation) {
+        return timings.durations(worker -> operations[worker].equals(operation));
+    }
+
+    /**
+     * CPU time and allocated bytes of the released workers, empty unless
+     * {@link RunnerOptions#withResourceAccounting(boolean) enabled}. Meant to be read after the run is finished.
+     */
+    public ResourceUsage getResourceUsage() {
+        return resources.usage(timings, worker -> true);
+    }
+
+    /**
+     * @return resource usage of the workers running the given {@link #forMix mix} operation
+     */
+    public ResourceUsage getResourceUsage(String operation) {
+        return resources.usage(timings, worker -> operations[worker].equals(operation));
     }
 
+    /**
+     * @return operation name of the worker, {@link #DEFAULT_OPERATION} unless the runner was created by
+     * {@link #forMix}
+     */
+    public String getOperation(int worker) {
+        return operations[worker];
+    }
+
+    /**
+     * Blocks until all workers are finished.
+     *
+     * @return results grouped by operation name, operations and results in worker order
+     */
+    public Map<String, List<Result<T>>> getResultsByOperation() {
+        Result<T>[] snapshot = snapshot();
+        Map<String, List<Result<T>>> byOperation = new LinkedHashMap<>();
+        for (int i = 0; i < threadCount; i++) {
+            byOperation.computeIfAbsent(operations[i], key -> new ArrayList<>()).add(snapshot[i]);
+        }
+        return byOperation;
+    }
+
+    /**
+     * Blocks until all workers are finished.
+     *
+     * @return results in worker order; resolved once, repeated calls return the same snapshot
+     */
     public Collection<Result<T>> getResults() {
-        return tasks.stream().map(f -> Result.of(f::get)).collect(Collectors.toList());
+        return Collections.unmodifiableList(Arrays.asList(snapshot()));
+    }
+
+    /**
+     * Waits at most {@code timeout} for all workers to finish.
+     *
+     * @return results in worker order, workers not completed in time are reported with {@link TimeoutException}
+     */
+    public Collection<Result<T>> getResults(Duration timeout) {
+        try {
+            if (awaitCompleted(threadCount - 1, timeout.toNanos()) == threadCount) {
+                return getResults();
+            }
+            return Collections.unmodifiableList(Arrays.asList(
+                    partial(new TimeoutException("Worker did not complete in " + timeout))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.unmodifiableList(Arrays.asList(partial(e)));
+        }
     }
 
     public Collection<Result<T>> getResultValues() {
-        return tasks.stream().map(f -> Result.of(f::get)).filter(Result::isValue).collect(Collectors.toList());
+        return Arrays.stream(snapshot()).filter(Result::isValue).collect(Collectors.toList());
     }
 
     public Collection<Result<T>> getResultExceptions() {
-        return tasks.stream().map(f -> Result.of(f::get)).filter(Result::isException).collect(Collectors.toList());
+        return Arrays.stream(snapshot()).filter(Result::isException).collect(Collectors.toList());
+    }
+
+    /**
+     * Hands out results in completion order, so a slow worker delays only its own result. Every call starts from the
+     * first completed worker and may be iterated concurrently with others.
+     *
+     * @see #forEachCompleted(Consumer)
+     */
+    public Iterable<Result<T>> completedResults() {
+        return CompletionIterator::new;
+    }
+
+    /**
+     * Passes every result to the consumer as soon as its worker completes, in completion order, on the calling thread.
+     */
+    public void forEachCompleted(Consumer<? super Result<T>> consumer) throws InterruptedException {
+        forEachCompleted((result, worker) -> consumer.accept(result));
+    }
+
+    /**
+     * Warm-up calls of every worker, see {@link RunnerOptions#withWarmup(Warmup)}. Complete once
+     * {@link #awaitReadiness()} has returned, workers that are still warming up are not included before that.
+     *
+     * @return report with a {@link WorkerLoad} per warmed-up worker, empty if the warm-up is disabled
+     */
+    public LoadReport getWarmup() {
+        List<WorkerLoad> finished = new ArrayList<>(warmups.length);
+        for (WorkerLoad load : warmups) {
+            if (load != null) {
+                finished.add(load);
+            }
+        }
+        return LoadReport.ofWorkers(finished);
+    }
+
+    /**
+     * Same as {@link #forEachCompleted(Consumer)}, also passing the worker index.
+     */
+    void forEachCompleted(ObjIntConsumer<? super Result<T>> consumer) throws InterruptedException {
+        int known = 0;
+        for (int position = 0; position < threadCount; position++) {
+            if (position == known) {
+                known = awaitCompleted(position);
+            }
+            int worker = completionOrder[position];
+            consumer.accept(results[worker], worker);
+        }
+    }
+
+    /**
+     * If the calling thread is interrupted, unfinished workers are reported with {@link InterruptedException} and the
+     * interrupted status is restored.
+     */
+    private Result<T>[] snapshot() {
+        try {
+            awaitCompleted(threadCount - 1);
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return partial(e);
+        }
+    }
+
+    /**
+     * @return copy of the current results, unfinished workers are reported with the given exception
+     */
+    private Result<T>[] partial(Exception unfinished) {
+        Result<T>[] partial;
+        completionLock.lock();
+        try {
+            partial = results.clone();
+        } finally {
+            completionLock.unlock();
+        }
+        for (int i = 0; i < partial.length; i++) {
+            if (partial[i] == null) {
+                partial[i] = Result.of(() -> {
+                    throw unfinished;
+                });
+            }
+        }
+        return partial;
+    }
+
+    /**
+     * @return number of completed workers, which is greater than {@code position}
+     */
+    private int awaitCompleted(int position) throws InterruptedException {
+        completionLock.lock();
+        try {
+            while (completedCount <= position) {
+                completionChanged.await();
+            }
+            return completedCount;
+        } finally {
+            completionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of completed workers, which is not greater than {@code position} if the time ran out
+     */
+    private int awaitCompleted(int position, long timeoutNanos) throws InterruptedException {
+        completionLock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (completedCount <= position && remaining > 0) {
+                remaining = completionChanged.awaitNanos(remaining);
+            }
+            return completedCount;
+        } finally {
+            completionLock.unlock();
+        }
+    }
+
+    private Future<T> submit(Callable<T> task, int worker) {
+        WorkerFuture future = new WorkerFuture(task, worker);
+        executorService.execute(future);
+        return future;
+    }
+
+    private void completed(int worker, Future<T> future) {
+        Result<T> result = Result.of(future::get, timings, resources, worker);
+        boolean firstFailure = false;
+        completionLock.lock();
+        try {
+            results[worker] = result;
+            completionOrder[completedCount++] = worker;
+            if (completedCount == threadCount && ownsExecutor) {
+                // the last worker releases the pool, its thread exits as soon as this task returns
+                executorService.shutdown();
+            }
+            if (failFast && result.isException() && !failed && completedCount < threadCount) {
+                failed = true;
+                firstFailure = true;
+            }
+            completionChanged.signalAll();
+        } finally {
+            completionLock.unlock();
+        }
+        if (firstFailure) {
+            log.debug("Worker {} failed, interrupting the others", worker, result.getException());
+            close();
+        }
     }
 
     private void setTasks(List<Future<T>> tasks) {
         this.tasks = tasks;
     }
 
-    @SuppressWarnings("ClassCanBeRecord") // must be java 8 compatible
-    private static class TaskWorkerRunnable implements Runnable {
+    /**
+     * Resolves its own result once, right after the worker returns.
+     */
+    private class WorkerFuture extends FutureTask<T> {
 
-        private final Runnable runnable;
-        private final CountDownLatch startLatch;
-        private final CountDownLatch finishLatch;
-        private final CountDownLatch trigger;
+        private final int worker;
 
-        public TaskWorkerRunnable(
-                Runnable runnable,
-                CountDownLatch startLatch,
-                CountDownLatch finishLatch,
-                CountDownLatch trigger) {
-            this.runnable = runnable;
-            this.startLatch = startLatch;
-            this.finishLatch = finishLatch;
-            this.trigger = trigger;
+        private WorkerFuture(Callable<T> callable, int worker) {
+            super(callable);
+            this.worker = worker;
         }
 
         @Override
-        public void run() {
-            startLatch.countDown();
-            try {
-                trigger.await();
-                runnable.run();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            } finally {
-                finishLatch.countDown();
-            }
+        protected void done() {
+            completed(worker, this);
         }
     }
 
-    private static class TaskWorkerSupplier<T> implements Callable<T> {
+    private class CompletionIterator implements Iterator<Result<T>> {
 
-        private final Callable<T> callable;
-        private final CountDownLatch startLatch;
-        private final CountDownLatch finishLatch;
-        private final CountDownLatch trigger;
+        private int position;
+        private int known;
 
-        public TaskWorkerSupplier(
-                Supplier<T> task,
-                CountDownLatch startLatch,
-                CountDownLatch finishLatch,
-                CountDownLatch trigger) {
-            this.callable = task::get;
-            this.startLatch = startLatch;
-            this.finishLatch = finishLatch;
-            this.trigger = trigger;
+        @Override
+        public boolean hasNext() {
+            return position < threadCount;
         }
 
         @Override
-        public T call() throws Exception {
-            startLatch.countDown();
-            try {
-                trigger.await();
-                return callable.call();
-            } finally {
-                finishLatch.countDown();
+        public Result<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (position == known) {
+                try {
+                    known = awaitCompleted(position);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the next result", e);
+                }
             }
+            return results[completionOrder[position++]];
         }
     }
 
-    private static class TaskWorkerFunction<T, R> implements Callable<R> {
+    private static class TaskWorker<T> implements Callable<T> {
 
-        private final Function<T, R> function;
-        private final Supplier<T> argumentGetter;
+        private final Callable<T> callable;
+        private final Runnable warmup;
+        private final long runnerId;
+        private final int index;
+        private final String operation;
         private final CountDownLatch startLatch;
         private final CountDownLatch finishLatch;
-        private final CountDownLatch trigger;
-
-        public TaskWorkerFunction(
-                Function<T, R> function,
-                Supplier<T> argumentGetter,
+        private final StartGate trigger;
+        private final WorkerTimings timings;
+        private final WorkerResources resources;
+
+        public TaskWorker(
+                Callable<T> callable,
+                Runnable warmup,
+                long runnerId,
+                int index,
+                String operation,
                 CountDownLatch startLatch,
                 CountDownLatch finishLatch,
-                CountDownLatch trigger) {
-            this.function = function;
-            this.argumentGetter = argumentGetter;
+                StartGate trigger,
+                WorkerTimings timings,
+                WorkerResources resources) {
+            this.callable = callable;
+            this.warmup = warmup;
+            this.runnerId = runnerId;
+            this.index = index;
+            this.operation = operation;
             this.startLatch = startLatch;
             this.finishLatch = finishLatch;
             this.trigger = trigger;
-        }
-
-        public TaskWorkerFunction(
-                Function<T, R> function,
-                T argument,
-                CountDownLatch startLatch,
-                CountDownLatch finishLatch,
-                CountDownLatch trigger) {
-            this(function, () -> argument, startLatch, finishLatch, trigger);
+            this.timings = timings;
+            this.resources = resources;
         }
 
         @Override
-        public R call() throws Exception {
-            startLatch.countDown();
+        public T call() throws Exception {
+            RunnerEvents.WorkerReady ready = new RunnerEvents.WorkerReady();
             try {
+                try {
+                    if (warmup != null) {
+                        warmup.run();
+                    }
+                } finally {
+                    // an Error of the warm-up fails this worker, but must not keep awaitReadiness() waiting for it
+                    ready.begin();
+                    startLatch.countDown();
+                }
                 trigger.await();
-                return function.apply(argumentGetter.get());
+                timings.started(index);
+                ready.end();
+                RunnerEvents.Task task = new RunnerEvents.Task();
+                task.begin();
+                resources.started(index);
+                boolean failed = true;
+                try {
+                    T value = callable.call();
+                    failed = false;
+                    return value;
+                } finally {
+                    resources.finished(index);
+                    timings.finished(index);
+                    task.end();
+                    commit(ready, task, failed);
+                }
             } finally {
                 finishLatch.countDown();
             }
         }
+
+        /**
+         * Both events are committed after the task, so the trigger is never delayed by JFR writes.
+         */
+        private void commit(RunnerEvents.WorkerReady ready, RunnerEvents.Task task, boolean failed) {
+            if (ready.shouldCommit()) {
+                ready.runnerId = runnerId;
+                ready.worker = index;
+                ready.commit();
+            }
+            if (task.shouldCommit()) {
+                task.runnerId = runnerId;
+                task.worker = index;
+                task.operation = operation;
+                task.failed = failed;
+                task.commit();
+            }
+        }
     }
 
-    static class Result<T> {
+    public static class Result<T> {
 
         private final T value;
         private final Exception exception;
-
-        private Result(T value, Exception exception) {
+        private final long startDelayNanos;
+        private final long durationNanos;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+
+        private Result(T value,
+                       Exception exception,
+                       long startDelayNanos,
+                       long durationNanos,
+                       long cpuTimeNanos,
+                       long allocatedBytes) {
             this.value = value;
             this.exception = exception;
+            this.startDelayNanos = startDelayNanos;
+            this.durationNanos = durationNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
         }
 
         static <T> Result<T> of(Callable<T> callable) {
+            long none = WorkerTimings.NOT_MEASURED;
+            try {
+                return new Result<>(callable.call(), null, none, none, none, none);
+            } catch (Exception e) {
+                return new Result<>(null, e, none, none, none, none);
+            }
+        }
+
+        /**
+         * Measurements are read after the callable returns, i.e. after the worker has published them.
+         */
+        static <T> Result<T> of(Callable<T> callable, WorkerTimings timings, WorkerResources resources, int worker) {
+            T value = null;
+            Exception exception = null;
             try {
-                return new Result<>(callable.call(), null);
+                value = callable.call();
             } catch (Exception e) {
-                return new Result<>(null, e);
+                exception = e;
             }
+            return new Result<>(value, exception, timings.startDelay(worker), timings.duration(worker),
+                    resources.cpuTime(worker), resources.allocatedBytes(worker));
         }
 
         public boolean isValue() {
@@ -298,5 +855,35 @@ public class ParallelRunner<T> implements AutoCloseable {
         public Exception getException() {
             return exception;
         }
+
+        /**
+         * @return nanoseconds between the trigger and the first instruction of the worker, -1 if it was not released
+         */
+        public long getStartDelayNanos() {
+            return startDelayNanos;
+        }
+
+        /**
+         * @return nanoseconds the worker spent in the task, -1 if it was not released
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return CPU nanoseconds the worker used in the task, -1 if not measured, see
+         * {@link RunnerOptions#withResourceAccounting(boolean)}
+         */
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        /**
+         * @return bytes the worker allocated in the task, -1 if not measured, see
+         * {@link RunnerOptions#withResourceAccounting(boolean)}
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes {@link ParallelRunner} timings to a Micrometer registry. Samples are recorded by the workers into plain
+ * arrays and copied to the registry only after the run, so the measured code is not slowed down by the meters.
+ */
+public final class ParallelRunnerMetrics {
+
+    public static final String START_DELAY = "parallel.runner.start.delay";
+    public static final String TASK_DURATION = "parallel.runner.task.duration";
+    public static final String RUNNER_TAG = "runner";
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private ParallelRunnerMetrics() {
+    }
+
+    /**
+     * Records start delays and task durations of a finished runner into timers tagged with {@code runner=name}.
+     * Timers publish percentiles and a percentile histogram, which Prometheus exposes as {@code _bucket} series.
+     */
+    public static void record(MeterRegistry registry, String name, ParallelRunner<?> runner) {
+        record(timer(registry, START_DELAY, "Time between the trigger and the first instruction of a worker", name),
+                runner.getStartDelays());
+        record(timer(registry, TASK_DURATION, "Time a worker spent in the task", name),
+                runner.getTaskDurations());
+    }
+
+    private static Timer timer(MeterRegistry registry, String metric, String description, String name) {
+        return Timer.builder(metric)
+                .description(description)
+                .tag(RUNNER_TAG, name)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static void record(Timer timer, LatencyStats stats) {
+        for (long sample : stats.getSamples()) {
+            timer.record(sample, TimeUnit.NANOSECONDS);
+        }
+    }
+}
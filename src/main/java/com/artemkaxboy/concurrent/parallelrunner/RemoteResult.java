@@ -0,0 +1,108 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Result of a single worker of a {@link RunnerAgent}, as received by {@link RunnerCoordinator}. Values and exceptions
+ * cross the process boundary as text: values as {@link String#valueOf(Object)}, exceptions as their
+ * {@link Throwable#toString()}.
+ */
+public final class RemoteResult {
+
+    private static final int MAX_TEXT_LENGTH = 10_000;
+
+    private final int agent;
+    private final int worker;
+    private final String value;
+    private final String exception;
+    private final long startDelayNanos;
+    private final long durationNanos;
+
+    private RemoteResult(int agent,
+                         int worker,
+                         String value,
+                         String exception,
+                         long startDelayNanos,
+                         long durationNanos) {
+        this.agent = agent;
+        this.worker = worker;
+        this.value = value;
+        this.exception = exception;
+        this.startDelayNanos = startDelayNanos;
+        this.durationNanos = durationNanos;
+    }
+
+    static void write(DataOutputStream out, ParallelRunner.Result<?> result) throws IOException {
+        out.writeBoolean(result.isValue());
+        out.writeUTF(truncate(result.isValue() ? String.valueOf(result.getValue()) : describe(result.getException())));
+        out.writeLong(result.getStartDelayNanos());
+        out.writeLong(result.getDurationNanos());
+    }
+
+    static RemoteResult read(DataInputStream in, int agent, int worker) throws IOException {
+        boolean isValue = in.readBoolean();
+        String text = in.readUTF();
+        long startDelay = in.readLong();
+        long duration = in.readLong();
+        return new RemoteResult(agent, worker, isValue ? text : null, isValue ? null : text, startDelay, duration);
+    }
+
+    /**
+     * Reports the user exception rather than the {@link java.util.concurrent.ExecutionException} wrapping it.
+     */
+    private static String describe(Exception exception) {
+        Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+        return cause.toString();
+    }
+
+    /**
+     * {@link DataOutputStream#writeUTF(String)} takes at most 65535 bytes, up to 3 per char.
+     */
+    private static String truncate(String text) {
+        return text.length() <= MAX_TEXT_LENGTH ? text : text.substring(0, MAX_TEXT_LENGTH);
+    }
+
+    /**
+     * @return index of the agent in connection order
+     */
+    public int getAgent() {
+        return agent;
+    }
+
+    /**
+     * @return index of the worker within its agent
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    public boolean isValue() {
+        return exception == null;
+    }
+
+    public boolean isException() {
+        return !isValue();
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getException() {
+        return exception;
+    }
+
+    /**
+     * @return nanoseconds between the trigger arriving at the agent and the first instruction of the worker, -1 if it
+     * was not released
+     */
+    public long getStartDelayNanos() {
+        return startDelayNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
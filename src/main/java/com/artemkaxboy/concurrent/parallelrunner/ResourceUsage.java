@@ -0,0 +1,125 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * CPU time and allocated bytes of the workers of a run, see {@link RunnerOptions#withResourceAccounting(boolean)}.
+ * Workers the JVM could not measure are left out.
+ */
+public final class ResourceUsage {
+
+    private final int cpuMeasuredWorkers;
+    private final long totalCpuTimeNanos;
+    private final long maxCpuTimeNanos;
+    private final long measuredDurationNanos;
+    private final int allocationMeasuredWorkers;
+    private final long totalAllocatedBytes;
+    private final long maxAllocatedBytes;
+
+    private ResourceUsage(int cpuMeasuredWorkers,
+                          long totalCpuTimeNanos,
+                          long maxCpuTimeNanos,
+                          long measuredDurationNanos,
+                          int allocationMeasuredWorkers,
+                          long totalAllocatedBytes,
+                          long maxAllocatedBytes) {
+        this.cpuMeasuredWorkers = cpuMeasuredWorkers;
+        this.totalCpuTimeNanos = totalCpuTimeNanos;
+        this.maxCpuTimeNanos = maxCpuTimeNanos;
+        this.measuredDurationNanos = measuredDurationNanos;
+        this.allocationMeasuredWorkers = allocationMeasuredWorkers;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+        this.maxAllocatedBytes = maxAllocatedBytes;
+    }
+
+    static ResourceUsage of(int workerCount,
+                            IntPredicate workers,
+                            IntToLongFunction cpuTime,
+                            IntToLongFunction allocatedBytes,
+                            IntToLongFunction duration) {
+        int cpuWorkers = 0;
+        long totalCpu = 0;
+        long maxCpu = 0;
+        long totalDuration = 0;
+        int allocationWorkers = 0;
+        long totalAllocated = 0;
+        long maxAllocated = 0;
+        for (int i = 0; i < workerCount; i++) {
+            if (!workers.test(i)) {
+                continue;
+            }
+            long cpu = cpuTime.applyAsLong(i);
+            long workerDuration = duration.applyAsLong(i);
+            if (cpu != WorkerTimings.NOT_MEASURED && workerDuration != WorkerTimings.NOT_MEASURED) {
+                cpuWorkers++;
+                totalCpu += cpu;
+                maxCpu = Math.max(maxCpu, cpu);
+                totalDuration += workerDuration;
+            }
+            long allocated = allocatedBytes.applyAsLong(i);
+            if (allocated != WorkerTimings.NOT_MEASURED) {
+                allocationWorkers++;
+                totalAllocated += allocated;
+                maxAllocated = Math.max(maxAllocated, allocated);
+            }
+        }
+        return new ResourceUsage(
+                cpuWorkers, totalCpu, maxCpu, totalDuration, allocationWorkers, totalAllocated, maxAllocated);
+    }
+
+    /**
+     * @return number of workers with measured CPU time
+     */
+    public int getCpuMeasuredWorkers() {
+        return cpuMeasuredWorkers;
+    }
+
+    public long getTotalCpuTimeNanos() {
+        return totalCpuTimeNanos;
+    }
+
+    public long getMaxCpuTimeNanos() {
+        return maxCpuTimeNanos;
+    }
+
+    public double getMeanCpuTimeNanos() {
+        return cpuMeasuredWorkers == 0 ? 0 : (double) totalCpuTimeNanos / cpuMeasuredWorkers;
+    }
+
+    /**
+     * @return share of the task durations the workers spent on a CPU; low values point at blocking or waiting for a
+     * core, not at work
+     */
+    public double getCpuUtilization() {
+        return measuredDurationNanos == 0 ? 0 : (double) totalCpuTimeNanos / measuredDurationNanos;
+    }
+
+    /**
+     * @return number of workers with measured allocations
+     */
+    public int getAllocationMeasuredWorkers() {
+        return allocationMeasuredWorkers;
+    }
+
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
+
+    public double getMeanAllocatedBytes() {
+        return allocationMeasuredWorkers == 0 ? 0 : (double) totalAllocatedBytes / allocationMeasuredWorkers;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cpu: total=%.3fms mean=%.1fus max=%.1fus utilization=%.2f (%d workers), "
+                        + "allocated: total=%d mean=%.0f max=%d bytes (%d workers)",
+                totalCpuTimeNanos / 1e6, getMeanCpuTimeNanos() / 1e3, maxCpuTimeNanos / 1e3, getCpuUtilization(),
+                cpuMeasuredWorkers, totalAllocatedBytes, getMeanAllocatedBytes(), maxAllocatedBytes,
+                allocationMeasuredWorkers);
+    }
+}
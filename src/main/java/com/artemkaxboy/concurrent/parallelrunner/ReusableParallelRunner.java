@@ -0,0 +1,240 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi-round counterpart of {@link ParallelRunner}. Workers are created once and stay parked on a single
+ * {@link Phaser} between rounds, so {@link #start()}/{@link #await()} can be repeated thousands of times without
+ * creating pools, latches or watcher threads.
+ * <p>
+ * Every round goes through three phases, the controlling thread being one more party of the phaser:
+ * <ol>
+ *     <li>ready &mdash; all workers are parked, {@link #awaitReadiness()} returns;</li>
+ *     <li>gate &mdash; {@link #start()} arrives and releases all workers at once;</li>
+ *     <li>finish &mdash; {@link #await()} waits for the last worker and returns the round results.</li>
+ * </ol>
+ * Control methods are meant to be called from a single thread.
+ * <p>
+ * A {@link Phaser} holds at most 65535 parties, so a runner has at most {@value #MAX_THREADS} workers; larger thread
+ * counts are rejected before any worker is created.
+ */
+public class ReusableParallelRunner<T> implements AutoCloseable {
+
+    /**
+     * Parties limit of a {@link Phaser} less the controlling thread.
+     */
+    public static final int MAX_THREADS = 65534;
+
+    private static final Logger log = LoggerFactory.getLogger(ReusableParallelRunner.class);
+
+    private final int threadCount;
+    private final Phaser phaser;
+    private final Thread[] workers;
+    private final ParallelRunner.Result<T>[] results;
+    private Stage stage = Stage.IDLE;
+    private int gatePhase;
+    private int round;
+
+    private ReusableParallelRunner(int threadCount, Callable<T> task, RunnerOptions options) {
+        if (threadCount <= 0 || threadCount > MAX_THREADS) {
+            throw new IllegalArgumentException("Thread count must be in 1.." + MAX_THREADS
+                    + ", a phaser holds at most 65535 parties including the controlling thread: " + threadCount);
+        }
+        this.threadCount = threadCount;
+        this.phaser = new Phaser(threadCount + 1);
+        //noinspection unchecked
+        this.results = new ParallelRunner.Result[threadCount];
+        this.workers = new Thread[threadCount];
+
+        ThreadFactory threadFactory = newThreadFactory(options);
+        for (int i = 0; i < threadCount; i++) {
+            Thread worker = threadFactory.newThread(new Worker(i, task));
+            worker.setName("reusable-parallel-runner-" + i);
+            worker.setDaemon(true);
+            workers[i] = worker;
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(RunnerOptions options) {
+        return switch (options.getThreadMode()) {
+            case PLATFORM -> Thread::new;
+            case VIRTUAL -> VirtualThreads.newThreadFactory();
+        };
+    }
+
+    public static ReusableParallelRunner<Void> forRunnable(int threadCount, Runnable runnable) {
+        return forRunnable(threadCount, runnable, RunnerOptions.defaults());
+    }
+
+    public static ReusableParallelRunner<Void> forRunnable(int threadCount, Runnable runnable, RunnerOptions options) {
+        return new ReusableParallelRunner<>(threadCount, () -> {
+            runnable.run();
+            return null;
+        }, options);
+    }
+
+    public static <T> ReusableParallelRunner<T> forSupplier(int threadCount, Supplier<T> supplier) {
+        return forSupplier(threadCount, supplier, RunnerOptions.defaults());
+    }
+
+    public static <T> ReusableParallelRunner<T> forSupplier(int threadCount,
+                                                            Supplier<T> supplier,
+                                                            RunnerOptions options) {
+        return new ReusableParallelRunner<>(threadCount, supplier::get, options);
+    }
+
+    public static <T, R> ReusableParallelRunner<R> forFunction(int threadCount,
+                                                               Function<T, R> function,
+                                                               Supplier<T> argumentGetter) {
+        return forFunction(threadCount, function, argumentGetter, RunnerOptions.defaults());
+    }
+
+    public static <T, R> ReusableParallelRunner<R> forFunction(int threadCount,
+                                                               Function<T, R> function,
+                                                               Supplier<T> argumentGetter,
+                                                               RunnerOptions options) {
+        return new ReusableParallelRunner<>(threadCount, () -> function.apply(argumentGetter.get()), options);
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * @return number of rounds completed with {@link #await()}
+     */
+    public int getCompletedRounds() {
+        return round;
+    }
+
+    /**
+     * Blocks until every worker is parked at the start gate of the next round.
+     */
+    public void awaitReadiness() throws InterruptedException {
+        checkOpen();
+        if (stage == Stage.IDLE) {
+            log.debug("Waiting for {} threads to be ready for round {}...", threadCount, round);
+            awaitAdvance(phaser.arrive());
+            stage = Stage.READY;
+        }
+    }
+
+    /**
+     * Releases all workers of the current round, waiting for their readiness first if needed.
+     */
+    public void start() throws InterruptedException {
+        awaitReadiness();
+        if (stage != Stage.READY) {
+            throw new IllegalStateException("Round " + round + " is already started");
+        }
+        gatePhase = phaser.arrive();
+        stage = Stage.RUNNING;
+    }
+
+    /**
+     * Waits for all workers of the started round and parks them again for the next one.
+     *
+     * @return results of the round in worker order
+     */
+    public List<ParallelRunner.Result<T>> await() throws InterruptedException {
+        checkOpen();
+        if (stage != Stage.RUNNING) {
+            throw new IllegalStateException("Round " + round + " is not started");
+        }
+        log.debug("Waiting for {} threads to finish round {}...", threadCount, round);
+        // the last worker may still be on its way through the gate, do not arrive twice at the same phase
+        awaitAdvance(gatePhase);
+        awaitAdvance(phaser.arrive());
+        stage = Stage.IDLE;
+        round++;
+        List<ParallelRunner.Result<T>> roundResults = new ArrayList<>(Arrays.asList(results));
+        Arrays.fill(results, null);
+        return roundResults;
+    }
+
+    /**
+     * Shortcut for {@link #start()} followed by {@link #await()}.
+     */
+    public List<ParallelRunner.Result<T>> runRound() throws InterruptedException {
+        start();
+        return await();
+    }
+
+    public boolean isDown() {
+        return phaser.isTerminated();
+    }
+
+    /**
+     * Releases parked workers and interrupts running ones. Results of an unfinished round are dropped.
+     */
+    @Override
+    public void close() {
+        phaser.forceTermination();
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    private void awaitAdvance(int phase) throws InterruptedException {
+        if (phaser.awaitAdvanceInterruptibly(phase) < 0) {
+            throw new IllegalStateException("Runner is closed");
+        }
+    }
+
+    private void checkOpen() {
+        if (phaser.isTerminated()) {
+            throw new IllegalStateException("Runner is closed");
+        }
+    }
+
+    private enum Stage {
+        IDLE, READY, RUNNING
+    }
+
+    private class Worker implements Runnable {
+
+        private final int index;
+        private final Callable<T> task;
+
+        private Worker(int index, Callable<T> task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            while (phaser.arriveAndAwaitAdvance() >= 0 // ready
+                    && phaser.arriveAndAwaitAdvance() >= 0) { // gate
+                results[index] = ParallelRunner.Result.of(this::call);
+                if (phaser.arriveAndAwaitAdvance() < 0) { // finish
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Wraps failures the same way {@link java.util.concurrent.Future#get()} does for {@link ParallelRunner}.
+         */
+        private T call() throws ExecutionException {
+            try {
+                return task.call();
+            } catch (Throwable e) {
+                throw new ExecutionException(e);
+            }
+        }
+    }
+}
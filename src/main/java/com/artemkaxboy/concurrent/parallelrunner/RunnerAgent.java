@@ -0,0 +1,57 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counterpart of {@link RunnerCoordinator} running in every other JVM.
+ */
+public final class RunnerAgent {
+
+    private static final Logger log = LoggerFactory.getLogger(RunnerAgent.class);
+
+    private RunnerAgent() {
+    }
+
+    /**
+     * Connects to the coordinator on the loopback interface, reports readiness once all workers of the runner are
+     * parked, releases them on the coordinator's trigger and sends the results back. The runner is closed in the end,
+     * also if the coordinator goes away.
+     */
+    public static void run(int coordinatorPort, ParallelRunner<?> runner) throws IOException, InterruptedException {
+        try (runner; Socket socket = new Socket(InetAddress.getLoopbackAddress(), coordinatorPort)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            runner.awaitReadiness();
+            out.writeUTF(RunnerCoordinator.READY);
+            out.writeInt(runner.getThreadCount());
+            out.flush();
+
+            String message = in.readUTF();
+            if (!RunnerCoordinator.START.equals(message)) {
+                throw new IOException("Expected " + RunnerCoordinator.START + ", got " + message);
+            }
+            runner.start();
+            log.debug("Released {} threads", runner.getThreadCount());
+
+            Collection<? extends ParallelRunner.Result<?>> results = runner.getResults();
+            out.writeUTF(RunnerCoordinator.RESULTS);
+            out.writeInt(results.size());
+            for (ParallelRunner.Result<?> result : results) {
+                RemoteResult.write(out, result);
+            }
+            out.flush();
+        }
+    }
+}
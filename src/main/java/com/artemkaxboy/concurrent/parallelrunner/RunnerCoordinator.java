@@ -0,0 +1,179 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Releases {@link ParallelRunner}s of several local JVMs at once, to generate more contention against a shared
+ * resource than a single JVM can. Every other JVM runs a {@link RunnerAgent}, which connects to the coordinator's
+ * loopback port, reports readiness once its workers are parked, waits for the common trigger and sends its results
+ * back.
+ * <pre>{@code
+ * try (RunnerCoordinator coordinator = RunnerCoordinator.open(3)) {
+ *     // launch 3 JVMs calling RunnerAgent.run(coordinator.getPort(), runner)
+ *     coordinator.awaitAgents(Duration.ofMinutes(1));
+ *     coordinator.start();
+ *     CoordinatedReport report = coordinator.collect(Duration.ofMinutes(5));
+ * }
+ * }</pre>
+ * The coordinator listens on the loopback interface only. Control methods are meant to be called from a single thread.
+ */
+public final class RunnerCoordinator implements AutoCloseable {
+
+    static final String READY = "READY";
+    static final String START = "START";
+    static final String RESULTS = "RESULTS";
+
+    private static final Logger log = LoggerFactory.getLogger(RunnerCoordinator.class);
+
+    private final int agentCount;
+    private final ServerSocket serverSocket;
+    private final List<Connection> agents = new ArrayList<>();
+    private long triggerSkewNanos = WorkerTimings.NOT_MEASURED;
+
+    private RunnerCoordinator(int agentCount, ServerSocket serverSocket) {
+        this.agentCount = agentCount;
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * Listens on an ephemeral loopback port, see {@link #getPort()}.
+     */
+    public static RunnerCoordinator open(int agentCount) throws IOException {
+        return open(agentCount, 0);
+    }
+
+    public static RunnerCoordinator open(int agentCount, int port) throws IOException {
+        if (agentCount <= 0) {
+            throw new IllegalArgumentException("Agent count must be positive: " + agentCount);
+        }
+        return new RunnerCoordinator(agentCount, new ServerSocket(port, agentCount, InetAddress.getLoopbackAddress()));
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getAgentCount() {
+        return agentCount;
+    }
+
+    /**
+     * Blocks until every agent is connected and all its workers are parked at its trigger.
+     *
+     * @throws SocketTimeoutException if not all agents are ready within the timeout
+     */
+    public void awaitAgents(Duration timeout) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (agents.size() < agentCount) {
+            serverSocket.setSoTimeout(remainingMillis(deadline));
+            Socket socket = serverSocket.accept();
+            Connection agent = new Connection(socket);
+            agents.add(agent);
+            socket.setSoTimeout(remainingMillis(deadline));
+            agent.threadCount = agent.expect(READY).readInt();
+            log.debug("Agent {} is ready with {} threads", agents.size() - 1, agent.threadCount);
+        }
+    }
+
+    /**
+     * Sends the trigger to all agents, one small packet each.
+     */
+    public void start() throws IOException {
+        if (agents.size() < agentCount) {
+            throw new IllegalStateException("Only " + agents.size() + " of " + agentCount + " agents are ready");
+        }
+        long started = System.nanoTime();
+        for (Connection agent : agents) {
+            agent.out.writeUTF(START);
+            agent.out.flush();
+        }
+        triggerSkewNanos = System.nanoTime() - started;
+    }
+
+    /**
+     * Blocks until every agent sends its results.
+     *
+     * @throws SocketTimeoutException if not all results arrive within the timeout
+     */
+    public CoordinatedReport collect(Duration timeout) throws IOException {
+        if (triggerSkewNanos == WorkerTimings.NOT_MEASURED) {
+            throw new IllegalStateException("Agents are not started");
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<RemoteResult> results = new ArrayList<>();
+        for (int i = 0; i < agents.size(); i++) {
+            Connection agent = agents.get(i);
+            agent.socket.setSoTimeout(remainingMillis(deadline));
+            DataInputStream in = agent.expect(RESULTS);
+            int count = in.readInt();
+            for (int worker = 0; worker < count; worker++) {
+                results.add(RemoteResult.read(in, i, worker));
+            }
+        }
+        return new CoordinatedReport(agents.size(), results, triggerSkewNanos);
+    }
+
+    /**
+     * Disconnects all agents; an agent that has not sent its results yet closes its runner.
+     */
+    @Override
+    public void close() {
+        for (Connection agent : agents) {
+            closeQuietly(agent.socket);
+        }
+        closeQuietly(serverSocket);
+    }
+
+    private static int remainingMillis(long deadline) throws SocketTimeoutException {
+        long remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+        if (remaining <= 0) {
+            throw new SocketTimeoutException("Agents did not respond in time");
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Cannot close {}", closeable, e);
+        }
+    }
+
+    private static final class Connection {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private int threadCount;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        private DataInputStream expect(String message) throws IOException {
+            String received = in.readUTF();
+            if (!message.equals(received)) {
+                throw new IOException("Expected " + message + ", got " + received);
+            }
+            return in;
+        }
+    }
+}
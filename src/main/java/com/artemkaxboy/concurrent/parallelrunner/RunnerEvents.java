@@ -0,0 +1,105 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events of {@link ParallelRunner}, so a recording shows runner phases next to GC pauses and
+ * safepoints. Enable them with {@code jfr configure} or a {@code .jfc} file, e.g.
+ * {@code -XX:StartFlightRecording:+com.artemkaxboy.parallelrunner.Task#enabled=true}.
+ * <p>
+ * All events are {@link Enabled disabled} by default, also in the JDK's {@code default} and {@code profile}
+ * configurations, which know nothing about them; {@link Task} also has a {@link Threshold} of {@value #TASK_THRESHOLD}
+ * once enabled. A disabled event costs a flag check: {@code begin()}/{@code commit()} are no-ops then and the event
+ * object does not escape, so the JIT removes its allocation. None of the events records a stack trace.
+ */
+final class RunnerEvents {
+
+    static final String CATEGORY = "ParallelRunner";
+    static final String TASK_THRESHOLD = "10 ms";
+
+    private RunnerEvents() {
+    }
+
+    /**
+     * Spans the time a worker was parked at the trigger: from readiness to release.
+     */
+    @Name("com.artemkaxboy.parallelrunner.WorkerReady")
+    @Enabled(false)
+    @Label("Worker Ready")
+    @Description("Worker parked at the trigger until the release")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class WorkerReady extends Event {
+
+        @Label("Runner Id")
+        long runnerId;
+
+        @Label("Worker")
+        int worker;
+    }
+
+    @Name("com.artemkaxboy.parallelrunner.TriggerReleased")
+    @Enabled(false)
+    @Label("Trigger Released")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class TriggerReleased extends Event {
+
+        @Label("Runner Id")
+        long runnerId;
+
+        @Label("Thread Count")
+        int threadCount;
+
+        @Label("Ready Workers")
+        int readyWorkers;
+    }
+
+    /**
+     * Spans the user task of a single worker.
+     */
+    @Name("com.artemkaxboy.parallelrunner.Task")
+    @Enabled(false)
+    @Label("Task")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Threshold(TASK_THRESHOLD)
+    static final class Task extends Event {
+
+        @Label("Runner Id")
+        long runnerId;
+
+        @Label("Worker")
+        int worker;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("com.artemkaxboy.parallelrunner.RunnerClose")
+    @Enabled(false)
+    @Label("Runner Close")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RunnerClose extends Event {
+
+        @Label("Runner Id")
+        long runnerId;
+
+        @Label("Completed Workers")
+        int completedWorkers;
+
+        @Label("Thread Count")
+        int threadCount;
+    }
+}
@@ -0,0 +1,174 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Immutable set of tuning knobs for {@link ParallelRunner} factories. Every {@code withXxx} method returns a copy,
+ * so a single instance can be safely shared between runners.
+ */
+public final class RunnerOptions {
+
+    private static final RunnerOptions DEFAULTS = new RunnerOptions();
+
+    private ThreadMode threadMode = ThreadMode.PLATFORM;
+    private StartMode startMode = StartMode.LATCH;
+    private ExecutorService executor;
+    private boolean resourceAccounting;
+    private boolean failFast;
+    private Warmup warmup = Warmup.none();
+
+    private RunnerOptions() {
+    }
+
+    private RunnerOptions(RunnerOptions other) {
+        this.threadMode = other.threadMode;
+        this.startMode = other.startMode;
+        this.executor = other.executor;
+        this.resourceAccounting = other.resourceAccounting;
+        this.failFast = other.failFast;
+        this.warmup = other.warmup;
+    }
+
+    /**
+     * Fixed pool of platform threads, one per worker.
+     */
+    public static RunnerOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * One virtual thread per worker, see {@link ThreadMode#VIRTUAL}.
+     */
+    public static RunnerOptions virtualThreads() {
+        return DEFAULTS.withThreadMode(ThreadMode.VIRTUAL);
+    }
+
+    /**
+     * Workers borrow threads from {@link SharedWorkerPool}, which is capped and kept alive between runners.
+     */
+    public static RunnerOptions sharedPool() {
+        return DEFAULTS.withExecutor(SharedWorkerPool.get());
+    }
+
+    public RunnerOptions withThreadMode(ThreadMode threadMode) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.threadMode = Objects.requireNonNull(threadMode, "threadMode");
+        return copy;
+    }
+
+    public RunnerOptions withStartMode(StartMode startMode) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.startMode = Objects.requireNonNull(startMode, "startMode");
+        return copy;
+    }
+
+    /**
+     * Runs workers in an executor managed by the caller instead of a private pool; {@link #getThreadMode()} is ignored
+     * then. The runner never shuts a borrowed executor down, {@link ParallelRunner#close()} only cancels its own tasks.
+     * <p>
+     * The executor must be able to run all workers of a runner at the same time, otherwise workers queued behind the
+     * parked ones never become ready. A {@link java.util.concurrent.ForkJoinPool} is fine: parked workers are
+     * announced as managed blockers, so the pool starts compensating threads for the queued ones.
+     */
+    public RunnerOptions withExecutor(ExecutorService executor) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.executor = Objects.requireNonNull(executor, "executor");
+        return copy;
+    }
+
+    /**
+     * Measures CPU time and allocated bytes of every worker between the trigger and its finish, see
+     * {@link ParallelRunner#getResourceUsage()}. Off by default: two more {@link java.lang.management.ThreadMXBean}
+     * reads per worker are cheap, but they add to the task duration. Requires platform threads, the JVM does not
+     * account virtual threads separately.
+     */
+    public RunnerOptions withResourceAccounting(boolean resourceAccounting) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.resourceAccounting = resourceAccounting;
+        return copy;
+    }
+
+    /**
+     * Closes the runner as soon as any worker fails, so the remaining workers are interrupted instead of running to
+     * completion. They are reported with {@link InterruptedException} or
+     * {@link java.util.concurrent.CancellationException}, depending on whether they noticed the interruption.
+     */
+    public RunnerOptions withFailFast(boolean failFast) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.failFast = failFast;
+        return copy;
+    }
+
+    /**
+     * Every worker runs its task according to {@code warmup} before reporting readiness, so
+     * {@link ParallelRunner#awaitReadiness()} also waits for the warm-up to finish. Warm-up calls are reported by
+     * {@link ParallelRunner#getWarmup()} and are not part of the results, timings or resource usage.
+     */
+    public RunnerOptions withWarmup(Warmup warmup) {
+        RunnerOptions copy = new RunnerOptions(this);
+        copy.warmup = Objects.requireNonNull(warmup, "warmup");
+        return copy;
+    }
+
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    public StartMode getStartMode() {
+        return startMode;
+    }
+
+    /**
+     * @return borrowed executor, {@code null} if the runner creates its own
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public boolean isResourceAccounting() {
+        return resourceAccounting;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public enum ThreadMode {
+
+        /**
+         * {@link java.util.concurrent.Executors#newFixedThreadPool(int)} sized to the worker count.
+         */
+        PLATFORM,
+
+        /**
+         * {@code Executors.newVirtualThreadPerTaskExecutor()}. Allows hundreds of thousands of workers, but requires
+         * JDK 21+ (or JDK 19/20 with {@code --enable-preview}) at runtime.
+         */
+        VIRTUAL;
+
+        public boolean isSupported() {
+            return this != VIRTUAL || VirtualThreads.isSupported();
+        }
+    }
+
+    public enum StartMode {
+
+        /**
+         * Workers park on a {@link java.util.concurrent.CountDownLatch}. Cheap for any number of workers, but every
+         * worker is unparked separately, which spreads the starts over tens to hundreds of microseconds.
+         */
+        LATCH,
+
+        /**
+         * Workers busy-spin on a volatile flag with {@link Thread#onSpinWait()} and start within a cache-line
+         * transfer of each other. Burns a core per worker from readiness until the start, so it is limited to
+         * platform threads and to no more workers than available processors.
+         */
+        SPIN
+    }
+}
@@ -0,0 +1,159 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link ScalabilitySweep}: measured throughput per thread count and the Universal Scalability Law
+ * <pre>
+ * X(N) = X(1) * N / (1 + sigma * (N - 1) + kappa * N * (N - 1))
+ * </pre>
+ * fitted to it. {@code sigma} is the contention (serialized) part of the work, {@code kappa} the coherency cost paid by
+ * every pair of threads. The coefficients come from a least-squares fit of {@code N / C(N) - 1} on {@code N - 1} and
+ * {@code N * (N - 1)}, {@code C(N) = X(N) / X(1)} being the relative capacity, both constrained to be non-negative.
+ */
+public final class ScalabilityReport {
+
+    private final int[] threadCounts;
+    private final double[] throughputs;
+    private final List<LoadReport> loads;
+    private final double sigma;
+    private final double kappa;
+
+    ScalabilityReport(int[] threadCounts, double[] throughputs, List<LoadReport> loads) {
+        if (threadCounts.length != throughputs.length) {
+            throw new IllegalArgumentException("Got " + throughputs.length + " throughputs for "
+                    + threadCounts.length + " thread counts");
+        }
+        if (threadCounts[0] != 1 || throughputs[0] <= 0) {
+            throw new IllegalArgumentException("Positive single-thread throughput is required to fit the model");
+        }
+        this.threadCounts = threadCounts;
+        this.throughputs = throughputs;
+        this.loads = loads;
+
+        double sxx = 0, sxz = 0, szz = 0, sxy = 0, szy = 0;
+        for (int i = 0; i < threadCounts.length; i++) {
+            double n = threadCounts[i];
+            double x = n - 1;
+            double z = n * (n - 1);
+            double y = n * throughputs[0] / throughputs[i] - 1;
+            sxx += x * x;
+            sxz += x * z;
+            szz += z * z;
+            sxy += x * y;
+            szy += z * y;
+        }
+        double det = sxx * szz - sxz * sxz;
+        double s = det == 0 ? -1 : (sxy * szz - szy * sxz) / det;
+        double k = det == 0 ? -1 : (szy * sxx - sxy * sxz) / det;
+        if (s < 0 || k < 0) {
+            // the optimum is on a border, try both single-coefficient fits and keep the better one
+            double sigmaOnly = sxx == 0 ? 0 : Math.max(0, sxy / sxx);
+            double kappaOnly = szz == 0 ? 0 : Math.max(0, szy / szz);
+            if (residual(sigmaOnly, 0) <= residual(0, kappaOnly)) {
+                s = sigmaOnly;
+                k = 0;
+            } else {
+                s = 0;
+                k = kappaOnly;
+            }
+        }
+        this.sigma = s;
+        this.kappa = k;
+    }
+
+    static ScalabilityReport of(int[] threadCounts, List<LoadReport> loads) {
+        double[] throughputs = loads.stream().mapToDouble(LoadReport::getOpsPerSecond).toArray();
+        return new ScalabilityReport(threadCounts, throughputs, List.copyOf(loads));
+    }
+
+    private double residual(double s, double k) {
+        double sum = 0;
+        for (int i = 0; i < threadCounts.length; i++) {
+            double n = threadCounts[i];
+            double error = n * throughputs[0] / throughputs[i] - 1 - s * (n - 1) - k * n * (n - 1);
+            sum += error * error;
+        }
+        return sum;
+    }
+
+    public int[] getThreadCounts() {
+        return threadCounts.clone();
+    }
+
+    /**
+     * @return measured operations per second for every thread count
+     */
+    public double[] getThroughputs() {
+        return throughputs.clone();
+    }
+
+    /**
+     * @return full reports of every step, in thread count order
+     */
+    public List<LoadReport> getLoads() {
+        return loads;
+    }
+
+    /**
+     * @return contention coefficient, {@code 0.05} means 5% of the work is effectively serialized
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * @return coherency coefficient, the cost of keeping every pair of threads in sync
+     */
+    public double getKappa() {
+        return kappa;
+    }
+
+    /**
+     * @return thread count with the highest predicted throughput, {@code sqrt((1 - sigma) / kappa)};
+     * {@link Double#POSITIVE_INFINITY} when there is no coherency cost and the throughput only saturates
+     */
+    public double getPeakConcurrency() {
+        return kappa == 0 ? Double.POSITIVE_INFINITY : Math.sqrt(Math.max(0, 1 - sigma) / kappa);
+    }
+
+    /**
+     * @return throughput the fitted model predicts for {@code threads}
+     */
+    public double getPredictedThroughput(double threads) {
+        return throughputs[0] * threads / (1 + sigma * (threads - 1) + kappa * threads * (threads - 1));
+    }
+
+    /**
+     * @return measured thread count with the highest throughput
+     */
+    public int getBestThreadCount() {
+        int best = 0;
+        for (int i = 1; i < throughputs.length; i++) {
+            if (throughputs[i] > throughputs[best]) {
+                best = i;
+            }
+        }
+        return threadCounts[best];
+    }
+
+    /**
+     * Retrograde scaling means that adding threads lowers the total throughput, not only stops raising it.
+     *
+     * @return {@code true} if the predicted peak is below the largest measured thread count
+     */
+    public boolean isRetrograde() {
+        return getPeakConcurrency() < threadCounts[threadCounts.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < threadCounts.length; i++) {
+            builder.append(String.format("N=%d: %.1f ops/s (model %.1f)%n", threadCounts[i], throughputs[i],
+                    getPredictedThroughput(threadCounts[i])));
+        }
+        return builder.append(String.format("sigma=%.4f, kappa=%.6f, peak N=%.1f%s", sigma, kappa,
+                getPeakConcurrency(), isRetrograde() ? ", retrograde" : "")).toString();
+    }
+}
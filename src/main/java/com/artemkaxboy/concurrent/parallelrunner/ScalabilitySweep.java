@@ -0,0 +1,96 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the same sustained load at growing thread counts and fits the Universal Scalability Law to the measured
+ * throughput, see {@link ScalabilityReport}. Every step is a separate {@link ParallelRunner#forSustainedLoad} run with
+ * its own synchronized start, steps are run one after another.
+ */
+public final class ScalabilitySweep {
+
+    private static final Logger log = LoggerFactory.getLogger(ScalabilitySweep.class);
+
+    private final int[] threadCounts;
+    private final Runnable operation;
+    private final LoadLimit limit;
+    private final RunnerOptions options;
+
+    private ScalabilitySweep(int[] threadCounts, Runnable operation, LoadLimit limit, RunnerOptions options) {
+        if (threadCounts.length < 3) {
+            throw new IllegalArgumentException("At least 3 thread counts are needed to fit the model: "
+                    + Arrays.toString(threadCounts));
+        }
+        if (threadCounts[0] != 1) {
+            throw new IllegalArgumentException("The sweep must start with a single thread: "
+                    + Arrays.toString(threadCounts));
+        }
+        for (int i = 1; i < threadCounts.length; i++) {
+            if (threadCounts[i] <= threadCounts[i - 1]) {
+                throw new IllegalArgumentException("Thread counts must be strictly increasing: "
+                        + Arrays.toString(threadCounts));
+            }
+        }
+        this.threadCounts = threadCounts;
+        this.operation = operation;
+        this.limit = limit;
+        this.options = options;
+    }
+
+    /**
+     * Sweeps over {@code 1, 2, 4, ...} threads, {@code maxThreads} being the last step even if it is not a power of 2.
+     */
+    public static ScalabilitySweep upTo(int maxThreads, Runnable operation, LoadLimit limit) {
+        return upTo(maxThreads, operation, limit, RunnerOptions.defaults());
+    }
+
+    public static ScalabilitySweep upTo(int maxThreads, Runnable operation, LoadLimit limit, RunnerOptions options) {
+        return of(powersOfTwo(maxThreads), operation, limit, options);
+    }
+
+    /**
+     * @param threadCounts strictly increasing thread counts starting with {@code 1}, at least 3 of them
+     */
+    public static ScalabilitySweep of(int[] threadCounts, Runnable operation, LoadLimit limit, RunnerOptions options) {
+        return new ScalabilitySweep(threadCounts.clone(), operation, limit, options);
+    }
+
+    static int[] powersOfTwo(int maxThreads) {
+        if (maxThreads < 3) {
+            throw new IllegalArgumentException("Max threads must be at least 3: " + maxThreads);
+        }
+        List<Integer> counts = new ArrayList<>();
+        for (int n = 1; n < maxThreads; n *= 2) {
+            counts.add(n);
+        }
+        counts.add(maxThreads);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public int[] getThreadCounts() {
+        return threadCounts.clone();
+    }
+
+    /**
+     * Runs all steps. Blocks for about {@code steps * limit} when the limit is a duration.
+     */
+    public ScalabilityReport run() throws InterruptedException {
+        List<LoadReport> loads = new ArrayList<>(threadCounts.length);
+        for (int threadCount : threadCounts) {
+            try (ParallelRunner<WorkerLoad> runner =
+                         ParallelRunner.forSustainedLoad(threadCount, operation, limit, options)) {
+                runner.awaitReadiness();
+                runner.start();
+                LoadReport load = LoadReport.of(runner);
+                log.debug("Sweep step of {} threads: {}", threadCount, load);
+                loads.add(load);
+            }
+        }
+        return ScalabilityReport.of(threadCounts, loads);
+    }
+}
@@ -0,0 +1,30 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+/**
+ * Sequential specification of a concurrent object for {@link LinearizabilityChecker}.
+ *
+ * @param <S> state of the object; must be immutable and implement {@code equals}/{@code hashCode}, states are
+ *            memoized by the checker
+ * @param <I> operation input, e.g. a method name with its arguments
+ * @param <O> operation output
+ */
+public interface SequentialModel<S, I, O> {
+
+    S initialState();
+
+    /**
+     * @return state after applying {@code input} to {@code state}, or {@code null} if the sequential object could not
+     * have returned {@code output} from that state
+     */
+    S step(S state, I input, O output);
+
+    /**
+     * Operations with different keys never affect each other, e.g. operations on different keys of a map, and are
+     * checked as independent histories, which is much faster than checking them together.
+     *
+     * @return partition of the operation, {@code null} puts all operations into a single history
+     */
+    default Object partitionKey(I input) {
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide pool for suites that create many runners back to back. Threads are reused between runners and retire
+ * after a minute of idleness.
+ * <p>
+ * The pool never queues: a runner is either given a thread for every worker or fails with
+ * {@link java.util.concurrent.RejectedExecutionException}, so runners sharing the pool concurrently cannot wait for
+ * each other. The cap is {@value #DEFAULT_MAX_THREADS} threads unless overridden with the
+ * {@value #MAX_THREADS_PROPERTY} system property.
+ */
+public final class SharedWorkerPool {
+
+    public static final String MAX_THREADS_PROPERTY = "parallelrunner.shared-pool.max-threads";
+    public static final int DEFAULT_MAX_THREADS = 1024;
+
+    private SharedWorkerPool() {
+    }
+
+    public static ExecutorService get() {
+        return Holder.POOL;
+    }
+
+    public static int getMaxThreads() {
+        return Holder.POOL.getMaximumPoolSize();
+    }
+
+    private static class Holder {
+
+        private static final ThreadPoolExecutor POOL = new ThreadPoolExecutor(
+                0, Integer.getInteger(MAX_THREADS_PROPERTY, DEFAULT_MAX_THREADS),
+                1, TimeUnit.MINUTES, new SynchronousQueue<>(), new DaemonThreadFactory());
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "parallel-runner-shared-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * One-shot gate the workers pass right before running the task.
+ */
+abstract class StartGate {
+
+    static StartGate create(RunnerOptions.StartMode mode) {
+        return switch (mode) {
+            case LATCH -> new Latch();
+            case SPIN -> new Spin();
+        };
+    }
+
+    abstract void await() throws InterruptedException;
+
+    abstract void open();
+
+    /**
+     * Parks waiting workers, every one of them is unparked separately when the gate opens.
+     */
+    private static class Latch extends StartGate {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        /**
+         * In a {@link ForkJoinPool} blocking is announced to the pool, so it starts spare threads for the workers that
+         * are still queued instead of waiting for the parked ones forever.
+         */
+        @Override
+        void await() throws InterruptedException {
+            if (ForkJoinTask.inForkJoinPool()) {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                    @Override
+                    public boolean block() throws InterruptedException {
+                        latch.await();
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return latch.getCount() == 0;
+                    }
+                });
+            } else {
+                latch.await();
+            }
+        }
+
+        @Override
+        void open() {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Keeps waiting workers on CPU polling a volatile flag, so they all see the opening within a cache-line transfer.
+     * Every waiting worker occupies a core until the gate opens.
+     */
+    private static class Spin extends StartGate {
+
+        private volatile boolean open;
+
+        @Override
+        void await() throws InterruptedException {
+            while (!open) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        void open() {
+            open = true;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor and thread factory lookup. The project is compiled for a release where virtual threads are
+ * still a preview API, so the factories are resolved reflectively and only work on a runtime that actually provides
+ * them.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle NEW_EXECUTOR = findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+            MethodType.methodType(ExecutorService.class));
+    private static final MethodHandle NEW_THREAD_FACTORY = lookupThreadFactory();
+    private static final boolean SUPPORTED = probe();
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    static ExecutorService newExecutor() {
+        checkSupported();
+        return (ExecutorService) invoke(NEW_EXECUTOR);
+    }
+
+    static ThreadFactory newThreadFactory() {
+        checkSupported();
+        return (ThreadFactory) invoke(NEW_THREAD_FACTORY);
+    }
+
+    private static void checkSupported() {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not available in this JVM: " + System.getProperty("java.version"));
+        }
+    }
+
+    /**
+     * {@code Thread.ofVirtual().factory()} folded into a single no-arg handle.
+     */
+    private static MethodHandle lookupThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            MethodHandle ofVirtual = findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            MethodHandle factory = MethodHandles.publicLookup().findVirtual(
+                    builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            if (ofVirtual == null) {
+                return null;
+            }
+            return MethodHandles.filterReturnValue(ofVirtual, factory.asType(
+                    MethodType.methodType(ThreadFactory.class, ofVirtual.type().returnType())));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findStatic(Class<?> owner, String name, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(owner, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * On JDK 19/20 the methods exist but throw {@link UnsupportedOperationException} without preview features.
+     */
+    private static boolean probe() {
+        if (NEW_EXECUTOR == null || NEW_THREAD_FACTORY == null) {
+            return false;
+        }
+        try {
+            ((ExecutorService) invoke(NEW_EXECUTOR)).shutdown();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static Object invoke(MethodHandle handle) {
+        try {
+            return handle.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
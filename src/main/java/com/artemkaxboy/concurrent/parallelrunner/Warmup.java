@@ -0,0 +1,133 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * How long every worker runs its task before reporting readiness, so the synchronized round measures compiled code
+ * instead of a mix of interpreter, C1 and C2 execution. Warm-up calls are counted separately, see
+ * {@link ParallelRunner#getWarmup()}, and never reach the results or timings of the measured round.
+ */
+public final class Warmup {
+
+    private static final Warmup NONE = new Warmup(0, 0, 0);
+    private static final int BATCH = 100;
+
+    private final long iterations;
+    private final long quietNanos;
+    private final long timeoutNanos;
+
+    private Warmup(long iterations, long quietNanos, long timeoutNanos) {
+        this.iterations = iterations;
+        this.quietNanos = quietNanos;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * No warm-up, the first call of the task is the measured one.
+     */
+    public static Warmup none() {
+        return NONE;
+    }
+
+    /**
+     * Every worker calls the task exactly {@code iterations} times.
+     */
+    public static Warmup iterations(long iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        return new Warmup(iterations, 0, 0);
+    }
+
+    /**
+     * Every worker calls the task at least {@code minIterations} times and then keeps calling it until the JIT has not
+     * spent any time compiling for {@code quietPeriod}, or until {@code timeout} has passed since its own start.
+     * Compilation time is JVM-wide, so unrelated compilations prolong the warm-up too. Falls back to
+     * {@code minIterations} if the JVM does not report compilation time.
+     */
+    public static Warmup untilCompiled(long minIterations, Duration quietPeriod, Duration timeout) {
+        if (minIterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + minIterations);
+        }
+        if (quietPeriod.isNegative() || quietPeriod.isZero() || timeout.compareTo(quietPeriod) < 0) {
+            throw new IllegalArgumentException("Quiet period must be positive and not longer than the timeout: "
+                    + quietPeriod + ", " + timeout);
+        }
+        return new Warmup(minIterations, quietPeriod.toNanos(), timeout.toNanos());
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public boolean isEnabled() {
+        return iterations > 0;
+    }
+
+    public boolean isUntilCompiled() {
+        return quietNanos > 0;
+    }
+
+    /**
+     * Calls the task on the current thread, counting operations and errors the same way
+     * {@link ParallelRunner#forSustainedLoad} does. Stops early if the thread is interrupted.
+     */
+    WorkerLoad run(Callable<?> task) {
+        Thread thread = Thread.currentThread();
+        CompilationMXBean compilation = isUntilCompiled() ? compilationBean() : null;
+        long start = System.nanoTime();
+        long operations = 0;
+        long errors = 0;
+        RuntimeException firstError = null;
+        long lastCompilationMillis = compilation == null ? 0 : compilation.getTotalCompilationTime();
+        long quietSince = start;
+        while (!thread.isInterrupted()) {
+            if (operations >= iterations) {
+                if (compilation == null) {
+                    break;
+                }
+                if (operations % BATCH == 0) {
+                    long now = System.nanoTime();
+                    long compilationMillis = compilation.getTotalCompilationTime();
+                    if (compilationMillis != lastCompilationMillis) {
+                        lastCompilationMillis = compilationMillis;
+                        quietSince = now;
+                    } else if (now - quietSince >= quietNanos) {
+                        break;
+                    }
+                    if (now - start >= timeoutNanos) {
+                        break;
+                    }
+                }
+            }
+            try {
+                task.call();
+            } catch (Exception e) {
+                if (errors++ == 0) {
+                    firstError = e instanceof RuntimeException runtime ? runtime : new RuntimeException(e);
+                }
+            }
+            operations++;
+        }
+        return new WorkerLoad(operations, errors, System.nanoTime() - start, firstError);
+    }
+
+    private static CompilationMXBean compilationBean() {
+        CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+        return bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null;
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) {
+            return "none";
+        }
+        return isUntilCompiled()
+                ? String.format("%d+ iterations until compiled (quiet %s, timeout %s)", iterations,
+                Duration.ofNanos(quietNanos), Duration.ofNanos(timeoutNanos))
+                : iterations + " iterations";
+    }
+}
@@ -0,0 +1,50 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+/**
+ * Outcome of a single sustained-load worker: counters of its own loop, collected without any per-iteration objects.
+ */
+public final class WorkerLoad {
+
+    private final long operations;
+    private final long errors;
+    private final long elapsedNanos;
+    private final RuntimeException firstError;
+
+    WorkerLoad(long operations, long errors, long elapsedNanos, RuntimeException firstError) {
+        this.operations = operations;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.firstError = firstError;
+    }
+
+    /**
+     * @return number of finished operations, failed ones included
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the first exception thrown by the operation, {@code null} if there were none
+     */
+    public RuntimeException getFirstError() {
+        return firstError;
+    }
+
+    public double getOpsPerSecond() {
+        return elapsedNanos == 0 ? 0 : operations * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ops=%d, errors=%d, ops/s=%.1f", operations, errors, getOpsPerSecond());
+    }
+}
@@ -0,0 +1,108 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Per-worker CPU time and allocated bytes of a single run, taken from the current thread's counters when the worker
+ * is released and when it finishes. Like {@link WorkerTimings}, every worker writes only its own slots. Counters at the
+ * release are kept apart, so a worker that has not finished yet, e.g. after a timed out {@code await}, reads as
+ * {@link WorkerTimings#NOT_MEASURED} and never as a raw counter.
+ * <p>
+ * Allocation accounting needs {@link com.sun.management.ThreadMXBean}, which HotSpot provides; on other JVMs only CPU
+ * time is measured. Values are {@link WorkerTimings#NOT_MEASURED} when accounting is off or unsupported.
+ */
+final class WorkerResources {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean HOTSPOT_THREADS =
+            THREADS instanceof com.sun.management.ThreadMXBean hotspot ? hotspot : null;
+
+    private final boolean enabled;
+    private final long[] startCpuTime;
+    private final long[] startAllocatedBytes;
+    private final long[] cpuTime;
+    private final long[] allocatedBytes;
+
+    WorkerResources(int workerCount, boolean enabled) {
+        this.enabled = enabled;
+        this.startCpuTime = new long[workerCount];
+        this.startAllocatedBytes = new long[workerCount];
+        this.cpuTime = new long[workerCount];
+        this.allocatedBytes = new long[workerCount];
+        Arrays.fill(cpuTime, WorkerTimings.NOT_MEASURED);
+        Arrays.fill(allocatedBytes, WorkerTimings.NOT_MEASURED);
+        if (enabled) {
+            enableCounters();
+        }
+    }
+
+    private static void enableCounters() {
+        try {
+            if (THREADS.isCurrentThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled()) {
+                THREADS.setThreadCpuTimeEnabled(true);
+            }
+            if (HOTSPOT_THREADS != null && HOTSPOT_THREADS.isThreadAllocatedMemorySupported()
+                    && !HOTSPOT_THREADS.isThreadAllocatedMemoryEnabled()) {
+                HOTSPOT_THREADS.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (SecurityException | UnsupportedOperationException ignored) {
+            // measure whatever is enabled already
+        }
+    }
+
+    /**
+     * Keeps the counters of the current thread until {@link #finished(int)}.
+     */
+    void started(int worker) {
+        if (enabled) {
+            startCpuTime[worker] = cpuTime();
+            startAllocatedBytes[worker] = allocatedBytes();
+        }
+    }
+
+    /**
+     * Publishes the amounts used since {@link #started(int)}.
+     */
+    void finished(int worker) {
+        if (enabled) {
+            cpuTime[worker] = difference(startCpuTime[worker], cpuTime());
+            allocatedBytes[worker] = difference(startAllocatedBytes[worker], allocatedBytes());
+        }
+    }
+
+    /**
+     * @return CPU nanoseconds used by the worker, {@link WorkerTimings#NOT_MEASURED} until it is finished
+     */
+    long cpuTime(int worker) {
+        return enabled ? cpuTime[worker] : WorkerTimings.NOT_MEASURED;
+    }
+
+    /**
+     * @return bytes allocated by the worker, {@link WorkerTimings#NOT_MEASURED} until it is finished
+     */
+    long allocatedBytes(int worker) {
+        return enabled ? allocatedBytes[worker] : WorkerTimings.NOT_MEASURED;
+    }
+
+    ResourceUsage usage(WorkerTimings timings, IntPredicate workers) {
+        return ResourceUsage.of(cpuTime.length, workers, this::cpuTime, this::allocatedBytes, timings::duration);
+    }
+
+    private static long difference(long start, long end) {
+        return start < 0 || end < 0 ? WorkerTimings.NOT_MEASURED : end - start;
+    }
+
+    /**
+     * @return -1 for virtual threads and when CPU time measurement is disabled
+     */
+    private static long cpuTime() {
+        return THREADS.getCurrentThreadCpuTime();
+    }
+
+    private static long allocatedBytes() {
+        return HOTSPOT_THREADS == null ? WorkerTimings.NOT_MEASURED : HOTSPOT_THREADS.getCurrentThreadAllocatedBytes();
+    }
+}
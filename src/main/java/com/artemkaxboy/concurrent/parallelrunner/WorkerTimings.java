@@ -0,0 +1,89 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Per-worker timestamps of a single run. Every worker writes only its own slots, so recording is a plain array store
+ * with no contention and no allocation; statistics are built on demand after the run.
+ * <p>
+ * Values are safely published by the finish latch / future completion, read them after the run is finished.
+ */
+final class WorkerTimings {
+
+    static final long NOT_MEASURED = -1;
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final long[] startedAt;
+    private final long[] finishedAt;
+    private volatile long triggeredAt = UNSET;
+
+    WorkerTimings(int workerCount) {
+        this.startedAt = new long[workerCount];
+        this.finishedAt = new long[workerCount];
+        Arrays.fill(startedAt, UNSET);
+        Arrays.fill(finishedAt, UNSET);
+    }
+
+    void triggered() {
+        triggeredAt = System.nanoTime();
+    }
+
+    void started(int worker) {
+        startedAt[worker] = System.nanoTime();
+    }
+
+    void finished(int worker) {
+        finishedAt[worker] = System.nanoTime();
+    }
+
+    /**
+     * @return nanoseconds between the trigger and the first instruction of the worker
+     */
+    long startDelay(int worker) {
+        long triggered = triggeredAt;
+        long started = startedAt[worker];
+        return triggered == UNSET || started == UNSET ? NOT_MEASURED : started - triggered;
+    }
+
+    /**
+     * @return nanoseconds the worker spent in the user task
+     */
+    long duration(int worker) {
+        long started = startedAt[worker];
+        long finished = finishedAt[worker];
+        return started == UNSET || finished == UNSET ? NOT_MEASURED : finished - started;
+    }
+
+    LatencyStats startDelays() {
+        return startDelays(worker -> true);
+    }
+
+    LatencyStats startDelays(IntPredicate workers) {
+        return collect(this::startDelay, workers);
+    }
+
+    LatencyStats durations() {
+        return durations(worker -> true);
+    }
+
+    LatencyStats durations(IntPredicate workers) {
+        return collect(this::duration, workers);
+    }
+
+    private LatencyStats collect(IntToLongFunction metric, IntPredicate workers) {
+        long[] samples = new long[startedAt.length];
+        int count = 0;
+        for (int i = 0; i < samples.length; i++) {
+            if (!workers.test(i)) {
+                continue;
+            }
+            long value = metric.applyAsLong(i);
+            if (value != NOT_MEASURED) {
+                samples[count++] = value;
+            }
+        }
+        return LatencyStats.of(samples, count);
+    }
+}
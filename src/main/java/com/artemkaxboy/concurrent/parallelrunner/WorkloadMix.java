@@ -0,0 +1,159 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Immutable set of named operations for {@link ParallelRunner#forMix}, e.g. readers and writers of a shared cache
+ * released by the same trigger. Every operation gets either a fixed number of workers or a weight: weighted
+ * operations share the workers left after the fixed ones in proportion to their weights.
+ * <p>
+ * Every {@code withXxx} method returns a copy, so a single instance can be safely shared between runners.
+ */
+public final class WorkloadMix<T> {
+
+    private final List<Operation<T>> operations;
+
+    private WorkloadMix(List<Operation<T>> operations) {
+        this.operations = operations;
+    }
+
+    public static <T> WorkloadMix<T> create() {
+        return new WorkloadMix<>(Collections.emptyList());
+    }
+
+    /**
+     * Runs the operation on exactly {@code threadCount} workers.
+     */
+    public WorkloadMix<T> withThreads(String name, int threadCount, Supplier<T> operation) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count of " + name + " must be positive: " + threadCount);
+        }
+        return with(new Operation<>(name, operation, threadCount, 0));
+    }
+
+    /**
+     * Runs the operation on a share of the workers not taken by {@link #withThreads fixed} operations.
+     */
+    public WorkloadMix<T> withWeight(String name, double weight, Supplier<T> operation) {
+        if (!(weight > 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight of " + name + " must be positive: " + weight);
+        }
+        return with(new Operation<>(name, operation, 0, weight));
+    }
+
+    private WorkloadMix<T> with(Operation<T> operation) {
+        Objects.requireNonNull(operation.supplier, "operation");
+        for (Operation<T> existing : operations) {
+            if (existing.name.equals(operation.name)) {
+                throw new IllegalArgumentException("Duplicate operation: " + operation.name);
+            }
+        }
+        List<Operation<T>> copy = new ArrayList<>(operations);
+        copy.add(operation);
+        return new WorkloadMix<>(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * @return operation names in the order they were added
+     */
+    public List<String> getOperationNames() {
+        return operations.stream().map(it -> it.name).toList();
+    }
+
+    /**
+     * @return total number of workers of fixed operations
+     */
+    public int getFixedThreadCount() {
+        return operations.stream().mapToInt(it -> it.threads).sum();
+    }
+
+    public boolean isWeighted() {
+        return operations.stream().anyMatch(it -> it.weight > 0);
+    }
+
+    int size() {
+        return operations.size();
+    }
+
+    String name(int operation) {
+        return operations.get(operation).name;
+    }
+
+    Supplier<T> supplier(int operation) {
+        return operations.get(operation).supplier;
+    }
+
+    /**
+     * Splits workers between operations in contiguous blocks; weighted operations get their shares by the largest
+     * remainder method, so the counts always add up to {@code threadCount}.
+     *
+     * @return operation index of every worker
+     */
+    int[] assign(int threadCount) {
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operations");
+        }
+        int free = threadCount - getFixedThreadCount();
+        if (free < 0 || free > 0 && !isWeighted()) {
+            throw new IllegalArgumentException("Fixed operations need " + getFixedThreadCount()
+                    + " workers, the runner has " + threadCount);
+        }
+        double totalWeight = operations.stream().mapToDouble(it -> it.weight).sum();
+        int[] counts = new int[operations.size()];
+        double[] remainders = new double[operations.size()];
+        int assigned = 0;
+        for (int i = 0; i < counts.length; i++) {
+            Operation<T> operation = operations.get(i);
+            if (operation.weight > 0) {
+                double share = free * operation.weight / totalWeight;
+                counts[i] = (int) share;
+                remainders[i] = share - counts[i];
+                assigned += counts[i];
+            } else {
+                counts[i] = operation.threads;
+                remainders[i] = -1;
+            }
+        }
+        for (; assigned < free; assigned++) {
+            int largest = 0;
+            for (int i = 1; i < remainders.length; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            counts[largest]++;
+            remainders[largest] = -1;
+        }
+
+        int[] workers = new int[threadCount];
+        int worker = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new IllegalArgumentException("Operation " + name(i) + " gets no workers out of " + threadCount);
+            }
+            for (int j = 0; j < counts[i]; j++) {
+                workers[worker++] = i;
+            }
+        }
+        return workers;
+    }
+
+    private static final class Operation<T> {
+
+        private final String name;
+        private final Supplier<T> supplier;
+        private final int threads;
+        private final double weight;
+
+        private Operation(String name, Supplier<T> supplier, int threads, double weight) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.supplier = supplier;
+            this.threads = threads;
+            this.weight = weight;
+        }
+    }
+}
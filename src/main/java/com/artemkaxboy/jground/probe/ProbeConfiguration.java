@@ -0,0 +1,44 @@
+package com.artemkaxboy.jground.probe;
+
+import java.util.Date;
+
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProbeProperties.class)
+public class ProbeConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jground.probes", name = "enabled", havingValue = "true")
+    public JobDetail probeJobDetail() {
+        return JobBuilder.newJob(ProbeJob.class)
+                .withIdentity("performanceProbes")
+                .storeDurably()
+                .build();
+    }
+
+    /**
+     * The first run is delayed by one interval, so probes do not compete with the application warm-up.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "jground.probes", name = "enabled", havingValue = "true")
+    public Trigger probeTrigger(JobDetail probeJobDetail, ProbeProperties properties) {
+        return TriggerBuilder.newTrigger()
+                .forJob(probeJobDetail)
+                .withIdentity("performanceProbes")
+                .startAt(new Date(System.currentTimeMillis() + properties.getInterval().toMillis()))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(properties.getInterval().toMillis())
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
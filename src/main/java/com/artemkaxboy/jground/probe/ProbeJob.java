@@ -0,0 +1,31 @@
+package com.artemkaxboy.jground.probe;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Quartz entry point of the probes, scheduled by {@link ProbeConfiguration}.
+ */
+@DisallowConcurrentExecution
+public class ProbeJob extends QuartzJobBean {
+
+    private final ProbeService probeService;
+
+    public ProbeJob(ProbeService probeService) {
+        this.probeService = probeService;
+    }
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        try {
+            probeService.runAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException(e);
+        } catch (RuntimeException e) {
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.artemkaxboy.jground.probe;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Scheduled performance probes over {@link com.artemkaxboy.jground.scenario.LoadScenario} beans.
+ */
+@ConfigurationProperties("jground.probes")
+public class ProbeProperties {
+
+    /**
+     * Probes burn CPU of the instance they run in, they are scheduled only if enabled explicitly.
+     */
+    private boolean enabled;
+    private Duration interval = Duration.ofMinutes(5);
+    private int threads = 4;
+    private Duration duration = Duration.ofSeconds(2);
+    /**
+     * Latencies recorded per worker and run, operations beyond that are only counted.
+     */
+    private int maxSamplesPerWorker = 100_000;
+    /**
+     * Scenario bean names to probe, all scenarios if empty.
+     */
+    private List<String> scenarios = new ArrayList<>();
+    /**
+     * Relative drift from the baseline that is flagged as a regression.
+     */
+    private double tolerance = 0.2;
+    /**
+     * Expected results per scenario; scenarios without a configured baseline take their first run as the baseline.
+     */
+    private Map<String, Baseline> baselines = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    public int getMaxSamplesPerWorker() {
+        return maxSamplesPerWorker;
+    }
+
+    public void setMaxSamplesPerWorker(int maxSamplesPerWorker) {
+        this.maxSamplesPerWorker = maxSamplesPerWorker;
+    }
+
+    public List<String> getScenarios() {
+        return scenarios;
+    }
+
+    public void setScenarios(List<String> scenarios) {
+        this.scenarios = scenarios;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public Map<String, Baseline> getBaselines() {
+        return baselines;
+    }
+
+    public void setBaselines(Map<String, Baseline> baselines) {
+        this.baselines = baselines;
+    }
+
+    public static class Baseline {
+
+        /**
+         * Operations per second, lower values are regressions.
+         */
+        private double throughput;
+        /**
+         * 99th percentile latency, higher values are regressions.
+         */
+        private Duration p99;
+
+        public Baseline() {
+        }
+
+        public Baseline(double throughput, Duration p99) {
+            this.throughput = throughput;
+            this.p99 = p99;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public void setThroughput(double throughput) {
+            this.throughput = throughput;
+        }
+
+        public Duration getP99() {
+            return p99;
+        }
+
+        public void setP99(Duration p99) {
+            this.p99 = p99;
+        }
+    }
+}
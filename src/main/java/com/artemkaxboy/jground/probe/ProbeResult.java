@@ -0,0 +1,22 @@
+package com.artemkaxboy.jground.probe;
+
+import com.artemkaxboy.concurrent.parallelrunner.LatencyStats;
+
+/**
+ * Outcome of a single probe run of a scenario.
+ *
+ * @param latencies  per-operation latencies in nanoseconds, sampled up to the configured limit per worker
+ * @param regression whether throughput or the 99th percentile drifted past the baseline
+ */
+public record ProbeResult(String scenario,
+                          long operations,
+                          long errors,
+                          double throughput,
+                          LatencyStats latencies,
+                          ProbeProperties.Baseline baseline,
+                          boolean regression) {
+
+    public double getErrorRate() {
+        return operations == 0 ? 0 : (double) errors / operations;
+    }
+}
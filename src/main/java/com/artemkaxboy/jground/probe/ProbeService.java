@@ -0,0 +1,217 @@
+package com.artemkaxboy.jground.probe;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.artemkaxboy.concurrent.parallelrunner.LatencyStats;
+import com.artemkaxboy.concurrent.parallelrunner.LoadLimit;
+import com.artemkaxboy.concurrent.parallelrunner.LoadReport;
+import com.artemkaxboy.concurrent.parallelrunner.ParallelRunner;
+import com.artemkaxboy.concurrent.parallelrunner.WorkerLoad;
+import com.artemkaxboy.jground.scenario.LoadScenario;
+import com.artemkaxboy.jground.scenario.ScenarioRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs every configured scenario for a short while, publishes throughput and latency percentiles as gauges tagged
+ * with the scenario name and flags drifts past the baseline:
+ * <ul>
+ *     <li>{@code jground.probe.throughput} &mdash; operations per second;</li>
+ *     <li>{@code jground.probe.latency} &mdash; seconds, tagged with {@code quantile};</li>
+ *     <li>{@code jground.probe.error.rate};</li>
+ *     <li>{@code jground.probe.regression} &mdash; 1 if the last run drifted past the baseline, 0 otherwise.</li>
+ * </ul>
+ */
+@Service
+public class ProbeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProbeService.class);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, LoadScenario> scenarios;
+    private final ScenarioRunner scenarioRunner;
+    private final ProbeProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, ProbeGauges> gauges = new ConcurrentHashMap<>();
+    private final Map<String, ProbeProperties.Baseline> learnedBaselines = new ConcurrentHashMap<>();
+
+    public ProbeService(Map<String, LoadScenario> scenarios,
+                        ScenarioRunner scenarioRunner,
+                        ProbeProperties properties,
+                        MeterRegistry registry) {
+        this.scenarios = scenarios;
+        this.scenarioRunner = scenarioRunner;
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    /**
+     * Probes scenarios one after another. The two would skew each other, so probes are skipped while a scenario started
+     * over HTTP is running and scenarios are refused while probes are running, see {@link ScenarioRunner#tryRun}.
+     *
+     * @return results in probe order, empty if skipped
+     */
+    public List<ProbeResult> runAll() throws InterruptedException {
+        List<ProbeResult> results = new ArrayList<>();
+        boolean probed = scenarioRunner.tryRun(() -> {
+            for (String name : selectedScenarios()) {
+                results.add(probe(name));
+            }
+        });
+        if (!probed) {
+            log.info("Scenario is running, probes are skipped");
+        }
+        return results;
+    }
+
+    /**
+     * Fails the startup on names in {@link ProbeProperties#getScenarios()} without a scenario, instead of every
+     * scheduled batch stopping at them.
+     */
+    @PostConstruct
+    void validateScenarios() {
+        List<String> unknown = properties.getScenarios().stream().filter(name -> !scenarios.containsKey(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Unknown probe scenarios " + unknown + ", known: " + scenarios.keySet());
+        }
+    }
+
+    public ProbeResult probe(String name) throws InterruptedException {
+        LoadScenario scenario = scenarios.get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+        int maxSamples = properties.getMaxSamplesPerWorker();
+        List<LatencySamples> workers = Collections.synchronizedList(new ArrayList<>());
+        ThreadLocal<LatencySamples> ownSamples = ThreadLocal.withInitial(() -> {
+            LatencySamples samples = new LatencySamples(maxSamples);
+            workers.add(samples);
+            return samples;
+        });
+        Runnable operation = () -> {
+            LatencySamples samples = ownSamples.get();
+            long invoked = System.nanoTime();
+            try {
+                scenario.run();
+            } finally {
+                samples.add(System.nanoTime() - invoked);
+            }
+        };
+        List<ParallelRunner.Result<WorkerLoad>> results;
+        try (ParallelRunner<WorkerLoad> runner = ParallelRunner.forSustainedLoad(
+                properties.getThreads(), operation, LoadLimit.duration(properties.getDuration()))) {
+            runner.start();
+            results = new ArrayList<>(runner.getResults());
+        }
+        for (ParallelRunner.Result<WorkerLoad> result : results) {
+            if (result.isException()) {
+                throw new IllegalStateException("Probe of " + name + " failed", result.getException());
+            }
+        }
+        ProbeResult result = evaluate(name, LoadReport.of(results), workers);
+        gauges.computeIfAbsent(name, key -> registerGauges(key, result)).latest = result;
+        if (result.regression()) {
+            log.warn("Probe {} regressed: {} ops/s, p99 {}us, baseline {} ops/s, p99 {}", name,
+                    Math.round(result.throughput()), result.latencies().getPercentile(99) / 1000,
+                    Math.round(result.baseline().getThroughput()), result.baseline().getP99());
+        } else {
+            log.debug("Probe {}: {} ops/s, latencies {}", name, Math.round(result.throughput()), result.latencies());
+        }
+        return result;
+    }
+
+    private List<String> selectedScenarios() {
+        return properties.getScenarios().isEmpty()
+                ? new ArrayList<>(scenarios.keySet())
+                : properties.getScenarios();
+    }
+
+    private ProbeResult evaluate(String name, LoadReport load, List<LatencySamples> workers) {
+        long[] samples = new long[workers.stream().mapToInt(it -> it.sampled).sum()];
+        int count = 0;
+        for (LatencySamples worker : workers) {
+            System.arraycopy(worker.samples, 0, samples, count, worker.sampled);
+            count += worker.sampled;
+        }
+        double throughput = load.getOpsPerSecond();
+        LatencyStats latencies = LatencyStats.of(samples, count);
+        Duration p99 = Duration.ofNanos(latencies.getPercentile(99));
+
+        ProbeProperties.Baseline baseline = properties.getBaselines().get(name);
+        if (baseline == null) {
+            baseline = learnedBaselines.computeIfAbsent(name, key -> new ProbeProperties.Baseline(throughput, p99));
+        }
+        double tolerance = properties.getTolerance();
+        boolean regression = baseline.getThroughput() > 0 && throughput < baseline.getThroughput() * (1 - tolerance)
+                || baseline.getP99() != null && p99.toNanos() > baseline.getP99().toNanos() * (1 + tolerance);
+        return new ProbeResult(name, load.getOperations(), load.getErrors(), throughput, latencies, baseline, regression);
+    }
+
+    private ProbeGauges registerGauges(String name, ProbeResult first) {
+        ProbeGauges probe = new ProbeGauges(first);
+        Gauge.builder("jground.probe.throughput", probe, it -> it.latest.throughput())
+                .tag("scenario", name)
+                .description("Operations per second of the last probe run")
+                .register(registry);
+        Gauge.builder("jground.probe.error.rate", probe, it -> it.latest.getErrorRate())
+                .tag("scenario", name)
+                .register(registry);
+        Gauge.builder("jground.probe.regression", probe, it -> it.latest.regression() ? 1 : 0)
+                .tag("scenario", name)
+                .description("1 if the last probe run drifted past the baseline")
+                .register(registry);
+        for (double quantile : QUANTILES) {
+            Gauge.builder("jground.probe.latency", probe, it -> it.latest.latencies().getPercentile(quantile * 100) / 1e9)
+                    .tags("scenario", name, "quantile", String.valueOf(quantile))
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+        return probe;
+    }
+
+    /**
+     * Gauges read the latest result through this holder, it is strongly referenced from the service.
+     */
+    private static final class ProbeGauges {
+
+        private volatile ProbeResult latest;
+
+        private ProbeGauges(ProbeResult latest) {
+            this.latest = latest;
+        }
+    }
+
+    /**
+     * Latencies of the operations of a single worker, written by that worker only and read after the run.
+     */
+    private static final class LatencySamples {
+
+        private final int maxSamples;
+        private long[] samples;
+        private int sampled;
+
+        private LatencySamples(int maxSamples) {
+            this.maxSamples = maxSamples;
+            this.samples = new long[Math.min(maxSamples, 1024)];
+        }
+
+        private void add(long latency) {
+            if (sampled < maxSamples) {
+                if (sampled == samples.length) {
+                    samples = Arrays.copyOf(samples, Math.min(maxSamples, samples.length * 2));
+                }
+                samples[sampled++] = latency;
+            }
+        }
+    }
+}
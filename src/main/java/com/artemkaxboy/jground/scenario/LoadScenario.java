@@ -0,0 +1,14 @@
+package com.artemkaxboy.jground.scenario;
+
+/**
+ * Operation driven by {@link ScenarioController}. Every bean of this type is a scenario named after the bean; every
+ * worker calls {@link #run()} in a loop for the requested duration.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    /**
+     * Called concurrently from all workers. A thrown {@link RuntimeException} is counted as an error, the loop goes on.
+     */
+    void run();
+}
@@ -0,0 +1,11 @@
+package com.artemkaxboy.jground.scenario;
+
+/**
+ * Thrown by {@link ScenarioRunner#run} when another scenario or a {@link ScenarioRunner#tryRun} task holds the runner.
+ */
+public class ScenarioBusyException extends IllegalStateException {
+
+    public ScenarioBusyException() {
+        super("Another scenario or probe is running");
+    }
+}
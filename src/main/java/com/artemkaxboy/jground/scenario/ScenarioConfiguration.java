@@ -0,0 +1,35 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Built-in contention probes, more scenarios are added by declaring {@link LoadScenario} beans anywhere.
+ */
+@Configuration
+@EnableConfigurationProperties(ScenarioProperties.class)
+public class ScenarioConfiguration {
+
+    /**
+     * All workers increment a single {@link AtomicLong}, the worst case of cache-line contention.
+     */
+    @Bean
+    public LoadScenario atomicCounter() {
+        AtomicLong counter = new AtomicLong();
+        return counter::incrementAndGet;
+    }
+
+    /**
+     * Workers merge into a handful of hot keys of a {@link ConcurrentHashMap}.
+     */
+    @Bean
+    public LoadScenario hotKeys() {
+        ConcurrentHashMap<Integer, Long> map = new ConcurrentHashMap<>();
+        return () -> map.merge(ThreadLocalRandom.current().nextInt(8), 1L, Long::sum);
+    }
+}
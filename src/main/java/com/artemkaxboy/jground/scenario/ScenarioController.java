@@ -0,0 +1,114 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Drives {@link LoadScenario}s over HTTP. A run streams newline-delimited JSON: a {@link ScenarioProgress} line per
+ * progress interval and a {@link ScenarioSummary} line in the end.
+ * <pre>
+ * curl -N -u user:password -X POST 'localhost:8080/scenarios/atomicCounter/run?threads=16&amp;duration=10s'
+ * </pre>
+ */
+@RestController
+@RequestMapping("/scenarios")
+public class ScenarioController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final Logger log = LoggerFactory.getLogger(ScenarioController.class);
+    private static final Duration RESPONSE_GRACE = Duration.ofSeconds(30);
+
+    private final ScenarioRunner scenarioRunner;
+    private final TaskExecutor taskExecutor;
+
+    public ScenarioController(ScenarioRunner scenarioRunner, TaskExecutor taskExecutor) {
+        this.scenarioRunner = scenarioRunner;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @GetMapping
+    public Set<String> list() {
+        return scenarioRunner.getScenarioNames();
+    }
+
+    @PostMapping(value = "/{name}/run", produces = "application/x-ndjson")
+    public ResponseBodyEmitter run(@PathVariable String name,
+                                   @RequestParam(defaultValue = "4") int threads,
+                                   @RequestParam(defaultValue = "10s") String duration) {
+        if (!scenarioRunner.hasScenario(name)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown scenario: " + name);
+        }
+        Duration runDuration;
+        try {
+            runDuration = DurationStyle.detectAndParse(duration);
+            scenarioRunner.validate(name, threads, runDuration);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        if (scenarioRunner.isRunning()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another scenario or probe is running");
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(runDuration.plus(RESPONSE_GRACE).toMillis()) {
+            @Override
+            protected void extendResponse(ServerHttpResponse outputMessage) {
+                // headers are committed before the first line, converters of the lines cannot set the type anymore
+                outputMessage.getHeaders().setContentType(NDJSON);
+            }
+        };
+        taskExecutor.execute(() -> {
+            try {
+                ScenarioSummary summary =
+                        scenarioRunner.run(name, threads, runDuration, progress -> send(emitter, progress));
+                send(emitter, summary);
+                emitter.complete();
+            } catch (ScenarioBusyException e) {
+                // another run got in between the check and the start
+                completeWithMessage(emitter, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.completeWithError(e);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Scenario {} stopped", name, e);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    private static void send(ResponseBodyEmitter emitter, Object line) throws IOException {
+        emitter.send(line, MediaType.APPLICATION_JSON);
+        emitter.send("\n", MediaType.TEXT_PLAIN);
+    }
+
+    /**
+     * The response is already committed as a stream, so a refused run is reported as its only line.
+     */
+    private static void completeWithMessage(ResponseBodyEmitter emitter, String message) {
+        try {
+            send(emitter, Map.of("type", "error", "message", message));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.artemkaxboy.jground.scenario;
+
+/**
+ * Periodic snapshot of a running scenario.
+ *
+ * @param operations   operations started so far, including failed ones
+ * @param opsPerSecond rate over the last interval
+ */
+public record ScenarioProgress(String type,
+                               String scenario,
+                               long elapsedMillis,
+                               long operations,
+                               long errors,
+                               double opsPerSecond) {
+
+    static ScenarioProgress of(String scenario, long elapsedMillis, long operations, long errors, double opsPerSecond) {
+        return new ScenarioProgress("progress", scenario, elapsedMillis, operations, errors, opsPerSecond);
+    }
+}
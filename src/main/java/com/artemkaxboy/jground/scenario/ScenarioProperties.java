@@ -0,0 +1,40 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits of the load a single request may put on the running instance.
+ */
+@ConfigurationProperties("jground.scenarios")
+public class ScenarioProperties {
+
+    private int maxThreads = 256;
+    private Duration maxDuration = Duration.ofMinutes(1);
+    private Duration progressInterval = Duration.ofSeconds(1);
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public Duration getProgressInterval() {
+        return progressInterval;
+    }
+
+    public void setProgressInterval(Duration progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+}
@@ -0,0 +1,151 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.artemkaxboy.concurrent.parallelrunner.LoadLimit;
+import com.artemkaxboy.concurrent.parallelrunner.LoadReport;
+import com.artemkaxboy.concurrent.parallelrunner.ParallelRunner;
+import com.artemkaxboy.concurrent.parallelrunner.WorkerLoad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs {@link LoadScenario} beans through {@link ParallelRunner#forSustainedLoad}, one run at a time per instance.
+ */
+@Service
+public class ScenarioRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScenarioRunner.class);
+
+    private final Map<String, LoadScenario> scenarios;
+    private final ScenarioProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ScenarioRunner(Map<String, LoadScenario> scenarios, ScenarioProperties properties) {
+        this.scenarios = scenarios;
+        this.properties = properties;
+    }
+
+    public Set<String> getScenarioNames() {
+        return new TreeSet<>(scenarios.keySet());
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public boolean hasScenario(String name) {
+        return scenarios.containsKey(name);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the scenario is unknown or the load exceeds {@link ScenarioProperties}
+     */
+    public void validate(String name, int threads, Duration duration) {
+        if (!hasScenario(name)) {
+            throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+        if (threads <= 0 || threads > properties.getMaxThreads()) {
+            throw new IllegalArgumentException("Threads must be in 1.." + properties.getMaxThreads() + ": " + threads);
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException(
+                    "Duration must be positive and at most " + properties.getMaxDuration() + ": " + duration);
+        }
+    }
+
+    /**
+     * Blocks for the duration of the run. Progress is reported every {@link ScenarioProperties#getProgressInterval()}
+     * on the calling thread; if the listener fails, e.g. because the client went away, the run is stopped.
+     *
+     * @throws ScenarioBusyException if another scenario or a {@link #tryRun} task is running
+     */
+    public ScenarioSummary run(String name, int threads, Duration duration, Listener listener)
+            throws IOException, InterruptedException {
+        validate(name, threads, duration);
+        if (!running.compareAndSet(false, true)) {
+            throw new ScenarioBusyException();
+        }
+        try {
+            return execute(name, scenarios.get(name), threads, duration, listener);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Runs the task while holding the same claim as {@link #run}, so that no scenario starts until it is done, e.g. to
+     * keep other measurements from skewing each other.
+     *
+     * @return {@code false} if a scenario was running and the task was not run
+     */
+    public boolean tryRun(ExclusiveTask task) throws InterruptedException {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ScenarioSummary execute(String name,
+                                    LoadScenario scenario,
+                                    int threads,
+                                    Duration duration,
+                                    Listener listener) throws IOException, InterruptedException {
+        LongAdder operations = new LongAdder();
+        LongAdder errors = new LongAdder();
+        Runnable operation = () -> {
+            operations.increment();
+            try {
+                scenario.run();
+            } catch (RuntimeException e) {
+                errors.increment();
+                throw e;
+            }
+        };
+        log.info("Running scenario {} on {} threads for {}", name, threads, duration);
+        try (ParallelRunner<WorkerLoad> runner =
+                     ParallelRunner.forSustainedLoad(threads, operation, LoadLimit.duration(duration))) {
+            runner.awaitReadiness();
+            long start = System.nanoTime();
+            runner.start();
+            long previousTime = start;
+            long previousOperations = 0;
+            while (!runner.await(properties.getProgressInterval())) {
+                long now = System.nanoTime();
+                long currentOperations = operations.sum();
+                double rate = (currentOperations - previousOperations) * 1e9 / Math.max(1, now - previousTime);
+                listener.progress(ScenarioProgress.of(
+                        name, (now - start) / 1_000_000, currentOperations, errors.sum(), rate));
+                previousTime = now;
+                previousOperations = currentOperations;
+            }
+            ScenarioSummary summary = ScenarioSummary.of(name, threads, LoadReport.of(runner), runner.getStartDelays());
+            log.info("Scenario {} finished: {}", name, summary);
+            return summary;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+
+        void progress(ScenarioProgress progress) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ExclusiveTask {
+
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,27 @@
+package com.artemkaxboy.jground.scenario;
+
+import com.artemkaxboy.concurrent.parallelrunner.LatencyStats;
+import com.artemkaxboy.concurrent.parallelrunner.LoadReport;
+
+/**
+ * Final line of a scenario run.
+ *
+ * @param startSpreadMicros time between the first and the last released worker
+ */
+public record ScenarioSummary(String type,
+                              String scenario,
+                              int threads,
+                              long wallMillis,
+                              long operations,
+                              long errors,
+                              double opsPerSecond,
+                              double errorRate,
+                              int failedWorkers,
+                              double startSpreadMicros) {
+
+    static ScenarioSummary of(String scenario, int threads, LoadReport report, LatencyStats startDelays) {
+        return new ScenarioSummary("summary", scenario, threads, report.getWallNanos() / 1_000_000,
+                report.getOperations(), report.getErrors(), report.getOpsPerSecond(), report.getErrorRate(),
+                report.getFailedWorkers(), startDelays.getSpread() / 1e3);
+    }
+}
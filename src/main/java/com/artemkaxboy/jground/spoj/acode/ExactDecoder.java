@@ -0,0 +1,159 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Exact ACODE counts, which grow like Fibonacci numbers and overflow {@code long} after about 90 ambiguous digits.
+ * <p>
+ * Counts stay in two {@code long} values while their sum cannot overflow. Then they move to two little-endian arrays
+ * of 32-bit limbs which are added in place, the roles of the arrays being swapped instead of copying them, so a digit
+ * costs one pass over the limbs and no allocation. A {@link BigInteger} is only created for the final answer.
+ */
+final class ExactDecoder {
+
+    private static final long LIMB_MASK = 0xFFFF_FFFFL;
+    private static final long LONG_LIMIT = Long.MAX_VALUE / 2;
+
+    private long previous = 1;
+    private long current = 1;
+    private int[] previousLimbs;
+    private int[] currentLimbs;
+    private int previousSize;
+    private int currentSize;
+    private int lastDigit;
+    private long length;
+
+    static BigInteger decode(CharSequence input) {
+        ExactDecoder decoder = new ExactDecoder();
+        for (int i = 0; i < input.length(); i++) {
+            decoder.accept(input.charAt(i) - '0');
+        }
+        return decoder.value();
+    }
+
+    static BigInteger decode(byte[] input, int from, int to) {
+        ExactDecoder decoder = new ExactDecoder();
+        for (int i = from; i < to; i++) {
+            decoder.accept(input[i] - '0');
+        }
+        return decoder.value();
+    }
+
+    void accept(int digit) {
+        if (length++ == 0) {
+            lastDigit = digit;
+            return;
+        }
+        int pair = lastDigit * 10 + digit;
+        boolean single = digit > 0;
+        boolean letter = pair >= 10 && pair <= 26;
+        lastDigit = digit;
+        if (currentLimbs == null) {
+            if (current <= LONG_LIMIT && previous <= LONG_LIMIT) {
+                long next = (single ? current : 0) + (letter ? previous : 0);
+                previous = current;
+                current = next;
+                return;
+            }
+            toLimbs();
+        }
+        acceptLimbs(single, letter);
+    }
+
+    /**
+     * @return number of decodings of the digits accepted so far, same as {@link Main#decodeCopilot(String)} until it
+     * overflows
+     */
+    BigInteger value() {
+        if (currentLimbs == null) {
+            return BigInteger.valueOf(current);
+        }
+        byte[] magnitude = new byte[currentSize * 4];
+        for (int i = 0; i < currentSize; i++) {
+            int limb = currentLimbs[i];
+            int offset = magnitude.length - 4 * (i + 1);
+            magnitude[offset] = (byte) (limb >>> 24);
+            magnitude[offset + 1] = (byte) (limb >>> 16);
+            magnitude[offset + 2] = (byte) (limb >>> 8);
+            magnitude[offset + 3] = (byte) limb;
+        }
+        return new BigInteger(1, magnitude);
+    }
+
+    /**
+     * @return {@code true} once the counts did not fit {@code long} anymore
+     */
+    boolean isBig() {
+        return currentLimbs != null;
+    }
+
+    private void toLimbs() {
+        previousLimbs = new int[8];
+        currentLimbs = new int[8];
+        previousSize = setLong(previousLimbs, previous);
+        currentSize = setLong(currentLimbs, current);
+    }
+
+    private static int setLong(int[] limbs, long value) {
+        limbs[0] = (int) value;
+        limbs[1] = (int) (value >>> 32);
+        return limbs[1] != 0 ? 2 : limbs[0] != 0 ? 1 : 0;
+    }
+
+    private void acceptLimbs(boolean single, boolean letter) {
+        if (single && letter) {
+            // next = current + previous is written over previous, which becomes the current one
+            previousSize = add(currentLimbs, currentSize);
+            swap();
+        } else if (single) {
+            // next = current, both values are the same
+            if (previousLimbs.length < currentSize) {
+                previousLimbs = new int[currentLimbs.length];
+            }
+            System.arraycopy(currentLimbs, 0, previousLimbs, 0, currentSize);
+            Arrays.fill(previousLimbs, currentSize, previousSize > currentSize ? previousSize : currentSize, 0);
+            previousSize = currentSize;
+        } else if (letter) {
+            // next = previous
+            swap();
+        } else {
+            // next = 0
+            Arrays.fill(previousLimbs, 0, previousSize, 0);
+            previousSize = 0;
+            swap();
+        }
+    }
+
+    private void swap() {
+        int[] limbs = previousLimbs;
+        previousLimbs = currentLimbs;
+        currentLimbs = limbs;
+        int size = previousSize;
+        previousSize = currentSize;
+        currentSize = size;
+    }
+
+    /**
+     * Adds {@code addend} to {@link #previousLimbs} in place, growing it if needed.
+     *
+     * @return new size of the sum
+     */
+    private int add(int[] addend, int addendSize) {
+        int size = Math.max(previousSize, addendSize);
+        if (previousLimbs.length <= size) {
+            previousLimbs = Arrays.copyOf(previousLimbs, Math.max(previousLimbs.length * 2, size + 1));
+        }
+        int[] sum = previousLimbs;
+        long carry = 0;
+        for (int i = 0; i < size; i++) {
+            long limb = (sum[i] & LIMB_MASK) + (i < addendSize ? addend[i] & LIMB_MASK : 0) + carry;
+            sum[i] = (int) limb;
+            carry = limb >>> 32;
+        }
+        if (carry != 0) {
+            sum[size++] = (int) carry;
+        }
+        return size;
+    }
+}
@@ -1,24 +1,132 @@
 package com.artemkaxboy.jground.spoj.acode;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
 
 /**
  * <a href="https://www.spoj.com/problems/ACODE/">The problem</a>
  */
 public class Main {
 
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_LONG_DIGITS = 20;
+
     public static void main(String[] args) throws IOException {
-        BufferedReader r = new BufferedReader(new InputStreamReader(System.in));
-        String inputLine;
-        while (!(inputLine = r.readLine()).equals("0")) {
-            System.out.println(decode(inputLine));
+        solve(System.in, System.out);
+    }
+
+    /**
+     * Decodes every line of {@code in} until the {@code 0} line, byte by byte, and writes one answer per line to
+     * {@code out}. Memory does not depend on the line length, so a multi-megabyte line costs the same as a short one.
+     */
+    static void solve(InputStream in, OutputStream out) throws IOException {
+        byte[] input = new byte[BUFFER_SIZE];
+        byte[] output = new byte[BUFFER_SIZE];
+        int outputSize = 0;
+        Decoder decoder = new Decoder();
+        int read;
+        reading:
+        while ((read = in.read(input)) > 0) {
+            for (int i = 0; i < read; i++) {
+                int b = input[i];
+                if (b >= '0' && b <= '9') {
+                    decoder.accept(b - '0');
+                } else if (b == '\n') {
+                    if (decoder.isTerminator()) {
+                        break reading;
+                    }
+                    if (decoder.length() > 0) {
+                        outputSize = writeLine(decoder.value(), output, flushIfFull(out, output, outputSize));
+                    }
+                    decoder.reset();
+                }
+            }
+        }
+        if (decoder.length() > 0 && !decoder.isTerminator()) {
+            // the last line has no line feed
+            outputSize = writeLine(decoder.value(), output, flushIfFull(out, output, outputSize));
+        }
+        out.write(output, 0, outputSize);
+        out.flush();
+    }
+
+    /**
+     * @return new size of the output buffer, which has room for one more answer
+     */
+    private static int flushIfFull(OutputStream out, byte[] output, int size) throws IOException {
+        if (size > output.length - MAX_LONG_DIGITS - 1) {
+            out.write(output, 0, size);
+            return 0;
+        }
+        return size;
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative {@code value} and a line feed at {@code offset}.
+     *
+     * @return offset after the line feed
+     */
+    private static int writeLine(long value, byte[] output, int offset) {
+        int end = offset + 1;
+        for (long rest = value; rest >= 10; rest /= 10) {
+            end++;
         }
+        int position = end;
+        do {
+            output[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        output[end] = '\n';
+        return end + 1;
     }
 
     static long decode(String input) {
-        return decodeCopilot(input);
+        return decodeRolling(input);
+    }
+
+    static long decodeRolling(CharSequence input) {
+        Decoder decoder = new Decoder();
+        for (int i = 0; i < input.length(); i++) {
+            decoder.accept(input.charAt(i) - '0');
+        }
+        return decoder.value();
+    }
+
+    static long decodeRolling(byte[] input, int from, int to) {
+        Decoder decoder = new Decoder();
+        for (int i = from; i < to; i++) {
+            decoder.accept(input[i] - '0');
+        }
+        return decoder.value();
+    }
+
+    /**
+     * @return exact number of decodings, see {@link ExactDecoder}
+     */
+    static BigInteger decodeExact(CharSequence input) {
+        return ExactDecoder.decode(input);
+    }
+
+    /**
+     * @param modulus not greater than {@code 2^62}, so the sum of two residues fits a {@code long}
+     * @return number of decodings modulo {@code modulus}
+     */
+    static long decodeMod(CharSequence input, long modulus) {
+        if (modulus <= 0 || modulus > 1L << 62) {
+            throw new IllegalArgumentException("Modulus must be in (0, 2^62]: " + modulus);
+        }
+        long previous = 1 % modulus;
+        long current = previous;
+        for (int i = 1; i < input.length(); i++) {
+            int digit = input.charAt(i) - '0';
+            int pair = (input.charAt(i - 1) - '0') * 10 + digit;
+            long next = (digit > 0 ? current : 0) + (pair >= 10 && pair <= 26 ? previous : 0);
+            previous = current;
+            current = next >= modulus ? next - modulus : next;
+        }
+        return current;
     }
 
     static long decodeCopilot(String input) {
@@ -37,4 +145,59 @@ public class Main {
         }
         return dp[input.length()];
     }
+
+    /**
+     * Rolling form of the {@link #decodeCopilot(String)} recurrence: only the counts of the last two prefixes and the
+     * last digit are kept. The first digit always counts as one decoding, as in the array version.
+     */
+    static final class Decoder {
+
+        private long previous;
+        private long current;
+        private int lastDigit;
+        private long length;
+
+        Decoder() {
+            reset();
+        }
+
+        void accept(int digit) {
+            long next;
+            if (length == 0) {
+                next = 1;
+            } else {
+                int pair = lastDigit * 10 + digit;
+                next = (digit > 0 ? current : 0) + (pair >= 10 && pair <= 26 ? previous : 0);
+            }
+            previous = current;
+            current = next;
+            lastDigit = digit;
+            length++;
+        }
+
+        /**
+         * @return number of decodings of the digits accepted since the last reset
+         */
+        long value() {
+            return current;
+        }
+
+        long length() {
+            return length;
+        }
+
+        /**
+         * @return {@code true} if the line so far is the single {@code 0} that ends the input
+         */
+        boolean isTerminator() {
+            return length == 1 && lastDigit == 0;
+        }
+
+        void reset() {
+            previous = 1;
+            current = 1;
+            lastDigit = 0;
+            length = 0;
+        }
+    }
 }
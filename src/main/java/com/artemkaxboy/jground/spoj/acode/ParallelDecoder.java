@@ -0,0 +1,217 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Decodes a single huge ACODE line on a fork/join pool.
+ * <p>
+ * Every digit {@code i > 0} maps the pair of counts {@code (f(i - 1), f(i - 2))} to {@code (f(i), f(i - 1))} by the
+ * matrix {@code [[a, b], [1, 0]]}, {@code a} being 1 if the digit is not zero and {@code b} being 1 if it forms a
+ * letter together with the digit before. Whether it does depends on the input only, not on the counts, so every chunk
+ * of the line computes the product of its matrices independently and the chunks are combined by multiplying their
+ * products in line order. Matrix multiplication is associative, so the split points do not change the result.
+ * <p>
+ * Digits are ASCII bytes, as read from the input, and the first digit always counts as one decoding, same as
+ * {@link Main#decodeCopilot(String)}.
+ */
+final class ParallelDecoder {
+
+    /**
+     * Digits per leaf task, small enough to spread a few megabytes over all cores.
+     */
+    static final int DEFAULT_CHUNK = 1 << 16;
+
+    /**
+     * Digits per block of the exact variant that are multiplied in {@code long} before switching to {@link BigInteger}.
+     * Entries of a product of {@code k} matrices are bounded by the Fibonacci number {@code F(k + 1)}, and
+     * {@code F(65)} is far below {@link Long#MAX_VALUE}.
+     */
+    private static final int EXACT_BLOCK = 64;
+
+    private ParallelDecoder() {
+    }
+
+    /**
+     * @return number of decodings modulo {@code 2^64}, same as {@link Main#decode(String)}
+     */
+    static long decode(byte[] digits) {
+        return decode(digits, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+    }
+
+    static long decode(byte[] digits, ForkJoinPool pool, int chunk) {
+        if (digits.length <= 1) {
+            return 1;
+        }
+        long[] m = pool.invoke(new LongTask(digits, 1, digits.length, 0, checkChunk(chunk)));
+        return m[0] + m[1];
+    }
+
+    /**
+     * @param modulus not greater than {@code 2^31}, so products of residues fit a {@code long}
+     * @return number of decodings modulo {@code modulus}
+     */
+    static long decodeMod(byte[] digits, long modulus) {
+        return decodeMod(digits, modulus, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+    }
+
+    static long decodeMod(byte[] digits, long modulus, ForkJoinPool pool, int chunk) {
+        if (modulus <= 0 || modulus > 1L << 31) {
+            throw new IllegalArgumentException("Modulus must be in (0, 2^31]: " + modulus);
+        }
+        if (digits.length <= 1) {
+            return 1 % modulus;
+        }
+        long[] m = pool.invoke(new LongTask(digits, 1, digits.length, modulus, checkChunk(chunk)));
+        return (m[0] + m[1]) % modulus;
+    }
+
+    /**
+     * @return exact number of decodings
+     */
+    static BigInteger decodeExact(byte[] digits) {
+        return decodeExact(digits, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+    }
+
+    static BigInteger decodeExact(byte[] digits, ForkJoinPool pool, int chunk) {
+        if (digits.length <= 1) {
+            return BigInteger.ONE;
+        }
+        BigInteger[] m = pool.invoke(new ExactTask(digits, 1, digits.length, checkChunk(chunk)));
+        return m[0].add(m[1]);
+    }
+
+    private static int checkChunk(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Chunk must be positive: " + chunk);
+        }
+        return chunk;
+    }
+
+    private static boolean isLetter(byte[] digits, int i) {
+        int pair = (digits[i - 1] - '0') * 10 + digits[i] - '0';
+        return pair >= 10 && pair <= 26;
+    }
+
+    /**
+     * Product of the matrices of digits {@code [from, to)}, row-major, with {@code long} entries wrapping around
+     * {@code 2^64} or reduced by the modulus if it is not zero.
+     */
+    private static long[] product(byte[] digits, int from, int to, long modulus) {
+        long m00 = 1, m01 = 0, m10 = 0, m11 = 1;
+        for (int i = from; i < to; i++) {
+            boolean a = digits[i] != '0';
+            boolean b = isLetter(digits, i);
+            long n00 = (a ? m00 : 0) + (b ? m10 : 0);
+            long n01 = (a ? m01 : 0) + (b ? m11 : 0);
+            if (modulus != 0) {
+                n00 = n00 >= modulus ? n00 - modulus : n00;
+                n01 = n01 >= modulus ? n01 - modulus : n01;
+            }
+            m10 = m00;
+            m11 = m01;
+            m00 = n00;
+            m01 = n01;
+        }
+        return new long[]{m00, m01, m10, m11};
+    }
+
+    /**
+     * @return {@code later * earlier}
+     */
+    private static long[] multiply(long[] later, long[] earlier, long modulus) {
+        long[] m = new long[4];
+        for (int row = 0; row < 2; row++) {
+            for (int column = 0; column < 2; column++) {
+                long x = later[row * 2] * earlier[column];
+                long y = later[row * 2 + 1] * earlier[2 + column];
+                m[row * 2 + column] = modulus == 0 ? x + y : (x + y) % modulus;
+            }
+        }
+        return m;
+    }
+
+    private static BigInteger[] multiply(BigInteger[] later, BigInteger[] earlier) {
+        BigInteger[] m = new BigInteger[4];
+        for (int row = 0; row < 2; row++) {
+            for (int column = 0; column < 2; column++) {
+                m[row * 2 + column] = later[row * 2].parallelMultiply(earlier[column])
+                        .add(later[row * 2 + 1].parallelMultiply(earlier[2 + column]));
+            }
+        }
+        return m;
+    }
+
+    private static BigInteger[] valueOf(long[] m) {
+        return new BigInteger[]{
+                BigInteger.valueOf(m[0]), BigInteger.valueOf(m[1]), BigInteger.valueOf(m[2]), BigInteger.valueOf(m[3])};
+    }
+
+    private static final class LongTask extends RecursiveTask<long[]> {
+
+        private final byte[] digits;
+        private final int from;
+        private final int to;
+        private final long modulus;
+        private final int chunk;
+
+        private LongTask(byte[] digits, int from, int to, long modulus, int chunk) {
+            this.digits = digits;
+            this.from = from;
+            this.to = to;
+            this.modulus = modulus;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= chunk) {
+                return product(digits, from, to, modulus);
+            }
+            int middle = (from + to) >>> 1;
+            LongTask earlier = new LongTask(digits, from, middle, modulus, chunk);
+            earlier.fork();
+            long[] later = new LongTask(digits, middle, to, modulus, chunk).compute();
+            return multiply(later, earlier.join(), modulus);
+        }
+    }
+
+    private static final class ExactTask extends RecursiveTask<BigInteger[]> {
+
+        private final byte[] digits;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        private ExactTask(byte[] digits, int from, int to, int chunk) {
+            this.digits = digits;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected BigInteger[] compute() {
+            if (to - from <= chunk) {
+                return leaf();
+            }
+            int middle = (from + to) >>> 1;
+            ExactTask earlier = new ExactTask(digits, from, middle, chunk);
+            earlier.fork();
+            BigInteger[] later = new ExactTask(digits, middle, to, chunk).compute();
+            return multiply(later, earlier.join());
+        }
+
+        /**
+         * Multiplies blocks in {@code long} and only their products in {@link BigInteger}.
+         */
+        private BigInteger[] leaf() {
+            BigInteger[] m = valueOf(product(digits, from, Math.min(to, from + EXACT_BLOCK), 0));
+            for (int start = from + EXACT_BLOCK; start < to; start += EXACT_BLOCK) {
+                m = multiply(valueOf(product(digits, start, Math.min(to, start + EXACT_BLOCK), 0)), m);
+            }
+            return m;
+        }
+    }
+}
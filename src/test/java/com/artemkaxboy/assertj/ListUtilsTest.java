@@ -1,12 +1,18 @@
 package com.artemkaxboy.assertj;
 
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
 
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
 class ListUtilsTest {
@@ -79,4 +85,125 @@ class ListUtilsTest {
 
                 .isNotNull();
     }
+
+    @Test
+    void reversed_randomAccessView() {
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+        List<Integer> reversed = ListUtils.reversed(list);
+
+        assertThat(reversed)
+                .containsExactly(3, 2, 1)
+                .containsExactlyElementsOf(ListUtils.reverse(list))
+                .isInstanceOf(RandomAccess.class);
+
+        list.add(4);
+        reversed.set(0, 40);
+        assertThat(reversed).containsExactly(40, 3, 2, 1);
+        assertThat(list).containsExactly(1, 2, 3, 40);
+    }
+
+    @Test
+    void reversed_sequentialView() {
+        List<String> list = new LinkedList<>(List.of("a", "b", "c"));
+        List<String> reversed = ListUtils.reversed(list);
+
+        assertThat(reversed)
+                .containsExactly("c", "b", "a")
+                .isNotInstanceOf(RandomAccess.class);
+        assertThat(reversed.get(1)).isEqualTo("b");
+        assertThat(reversed.indexOf("a")).isEqualTo(2);
+        assertThat(reversed.subList(1, 3)).containsExactly("b", "a");
+        assertThat(ListUtils.reversed(new LinkedList<>())).isEmpty();
+    }
+
+    @Test
+    void chunked_lastChunkIsShorter() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+
+        assertThat(ListUtils.chunked(list, 2))
+                .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(ListUtils.chunked(list, 5)).containsExactly(list);
+        assertThat(ListUtils.chunked(List.of(), 3)).isEmpty();
+        assertThatThrownBy(() -> ListUtils.chunked(list, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void windowed_onlyFullWindows() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+
+        assertThat(ListUtils.windowed(list, 3, 1))
+                .containsExactly(List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4, 5));
+        assertThat(ListUtils.windowed(list, 2, 2))
+                .containsExactly(List.of(1, 2), List.of(3, 4));
+        assertThat(ListUtils.windowed(list, 6, 1)).isEmpty();
+    }
+
+    @Test
+    void windowed_randomAccessOnlyOverRandomAccess() {
+        assertThat(ListUtils.windowed(new ArrayList<>(List.of(1, 2, 3)), 2, 1)).isInstanceOf(RandomAccess.class);
+        assertThat(ListUtils.chunked(new LinkedList<>(List.of(1, 2, 3)), 2))
+                .containsExactly(List.of(1, 2), List.of(3))
+                .isNotInstanceOf(RandomAccess.class);
+    }
+
+    @Test
+    void windowed_sequentialSinglePass() {
+        List<Integer> list = new LinkedList<>(List.of(1, 2, 3, 4, 5, 6, 7));
+
+        assertThat(ListUtils.windowed(list, 3, 1))
+                .containsExactly(List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4, 5), List.of(4, 5, 6),
+                        List.of(5, 6, 7));
+        assertThat(ListUtils.windowed(list, 2, 3))
+                .containsExactly(List.of(1, 2), List.of(4, 5));
+        assertThat(ListUtils.chunked(list, 3))
+                .containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7))
+                .containsExactlyElementsOf(ListUtils.chunked(new ArrayList<>(list), 3));
+        assertThat(ListUtils.chunked(list, 3).get(1)).containsExactly(4, 5, 6);
+        assertThat(ListUtils.windowed(new LinkedList<>(List.of(1)), 2, 1)).isEmpty();
+        assertThatThrownBy(() -> ListUtils.chunked(list, 3).iterator().next().add(8))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void concat_view() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2));
+        List<Integer> second = new LinkedList<>(List.of(3));
+        List<Number> concatenated = ListUtils.concat(first, List.of(), second);
+
+        assertThat(concatenated)
+                .containsExactly(1, 2, 3)
+                .isNotInstanceOf(RandomAccess.class);
+        assertThat(concatenated.get(2)).isEqualTo(3);
+
+        first.add(10);
+        assertThat(concatenated).containsExactly(1, 2, 10, 3);
+        assertThat(ListUtils.concat(first, first)).isInstanceOf(RandomAccess.class).hasSize(6);
+        assertThatThrownBy(() -> concatenated.add(4))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> concatenated.get(4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void concat_sequentialListIterator() {
+        List<String> concatenated = ListUtils.concat(
+                new LinkedList<>(List.of("a", "b")), List.of(), new LinkedList<>(List.of("c")), List.of());
+        ListIterator<String> iterator = concatenated.listIterator(2);
+
+        assertThat(concatenated).isInstanceOf(AbstractSequentialList.class);
+        assertThat(iterator.nextIndex()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo("c");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previous()).isEqualTo("c");
+        assertThat(iterator.previous()).isEqualTo("b");
+        assertThat(iterator.previousIndex()).isEqualTo(0);
+        assertThat(concatenated.indexOf("c")).isEqualTo(2);
+        assertThat(concatenated.subList(1, 3)).containsExactly("b", "c");
+        assertThat(ListUtils.concat()).isEmpty();
+        assertThatThrownBy(() -> concatenated.listIterator(4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(iterator::remove)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
 }
@@ -0,0 +1,104 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConstantRateLoadTest {
+
+    @Test
+    void run_KeepsTargetRate() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ConstantRateReport report =
+                ConstantRateLoad.of(4, counter::incrementAndGet, 1000, Duration.ofMillis(500)).run();
+
+        Assertions.assertEquals(500, report.getScheduled());
+        Assertions.assertEquals(report.getSent(), counter.get());
+        Assertions.assertEquals(report.getSent(), report.getLatencies().getCount());
+        Assertions.assertTrue(report.getShortfall() < 0.2, report.toString());
+        Assertions.assertEquals(0, report.getErrors());
+    }
+
+    @Test
+    void run_ChargesStallToQueuedOperations() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        // a single worker, the 10th call stalls for 200ms while 20 more operations are due
+        ConstantRateReport report = ConstantRateLoad.of(1, () -> {
+            if (counter.incrementAndGet() == 10) {
+                sleep(200);
+            }
+        }, 100, Duration.ofSeconds(1)).run();
+
+        long stall = TimeUnit.MILLISECONDS.toNanos(200);
+        Assertions.assertTrue(report.getServiceTimes().getPercentile(90) < stall / 4, report.toString());
+        Assertions.assertTrue(report.getLatencies().getPercentile(90) > stall / 4, report.toString());
+        Assertions.assertTrue(report.getLatencies().getMax() >= stall);
+    }
+
+    @Test
+    void run_ReportsShortfallWhenPoolIsTooSmall() throws InterruptedException {
+        ConstantRateReport report = ConstantRateLoad.of(1, () -> sleep(10), 1000, Duration.ofMillis(300)).run();
+
+        Assertions.assertTrue(report.getMissed() > 0);
+        Assertions.assertTrue(report.getShortfall() > 0.5, report.toString());
+    }
+
+    @Test
+    void run_CountsErrors() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ConstantRateReport report = ConstantRateLoad.of(2, () -> {
+            if (counter.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException();
+            }
+        }, 200, Duration.ofMillis(100)).run();
+
+        Assertions.assertEquals(report.getSent() / 2, report.getErrors());
+    }
+
+    @Test
+    void run_WarmupCallsOperationOnly() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ConstantRateReport report = ConstantRateLoad.of(2, counter::incrementAndGet, 200, Duration.ofMillis(100),
+                RunnerOptions.defaults().withWarmup(Warmup.iterations(10))).run();
+
+        Assertions.assertEquals(20, report.getScheduled());
+        Assertions.assertEquals(20, report.getSent(), report.toString());
+        Assertions.assertEquals(0, report.getMissed());
+        Assertions.assertEquals(2 * 10 + report.getSent(), counter.get());
+    }
+
+    @Test
+    void run_InterruptedWorkerStopsWaiting() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        // the second operation is due in 20 seconds
+        ConstantRateLoad load = ConstantRateLoad.of(1, () -> {
+        }, 0.05, Duration.ofMinutes(1), RunnerOptions.defaults().withExecutor(pool));
+        Thread caller = new Thread(() -> {
+            try {
+                load.run();
+            } catch (InterruptedException ignored) {
+                // closing the runner interrupts the worker
+            }
+        });
+        caller.start();
+        sleep(200);
+        caller.interrupt();
+        caller.join();
+
+        pool.shutdown();
+        Assertions.assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyStatsTest {
+
+    @Test
+    void getPercentile() {
+        long[] samples = new long[100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = samples.length - i;
+        }
+        LatencyStats stats = LatencyStats.of(samples);
+
+        Assertions.assertEquals(100, stats.getCount());
+        Assertions.assertEquals(1, stats.getMin());
+        Assertions.assertEquals(100, stats.getMax());
+        Assertions.assertEquals(50.5, stats.getMean());
+        Assertions.assertEquals(99, stats.getSpread());
+        Assertions.assertEquals(1, stats.getPercentile(0));
+        Assertions.assertEquals(50, stats.getPercentile(50));
+        Assertions.assertEquals(99, stats.getPercentile(99));
+        Assertions.assertEquals(100, stats.getPercentile(99.9));
+        Assertions.assertEquals(100, stats.getPercentile(100));
+    }
+
+    @Test
+    void of_UsesOnlyCountSamplesAndKeepsSource() {
+        long[] samples = {3, 1, 2, 100};
+        LatencyStats stats = LatencyStats.of(samples, 3);
+
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(3, stats.getMax());
+        Assertions.assertArrayEquals(new long[]{3, 1, 2, 100}, samples);
+    }
+
+    @Test
+    void empty() {
+        LatencyStats stats = LatencyStats.of(new long[0]);
+
+        Assertions.assertTrue(stats.isEmpty());
+        Assertions.assertEquals(0, stats.getPercentile(99));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.getPercentile(101));
+    }
+}
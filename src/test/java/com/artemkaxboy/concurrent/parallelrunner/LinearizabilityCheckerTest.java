@@ -0,0 +1,229 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LinearizabilityCheckerTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 500;
+
+    /**
+     * Register holding an integer, {@code null} input reads it, any other input writes it.
+     */
+    private static final SequentialModel<Integer, Integer, Integer> REGISTER = new SequentialModel<>() {
+        @Override
+        public Integer initialState() {
+            return 0;
+        }
+
+        @Override
+        public Integer step(Integer state, Integer input, Integer output) {
+            if (input == null) {
+                return state.equals(output) ? state : null;
+            }
+            return input;
+        }
+    };
+
+    /**
+     * Counter where every call returns the previous value and increments it.
+     */
+    private static final SequentialModel<Integer, Void, Integer> COUNTER = new SequentialModel<>() {
+        @Override
+        public Integer initialState() {
+            return 0;
+        }
+
+        @Override
+        public Integer step(Integer state, Void input, Integer output) {
+            return state.equals(output) ? state + 1 : null;
+        }
+    };
+
+    /**
+     * Map of registers, key is the input's key, {@code null} value reads, other values write.
+     */
+    private static final SequentialModel<Integer, Put, Integer> REGISTER_MAP = new SequentialModel<>() {
+        @Override
+        public Integer initialState() {
+            return 0;
+        }
+
+        @Override
+        public Integer step(Integer state, Put input, Integer output) {
+            return REGISTER.step(state, input.value, output);
+        }
+
+        @Override
+        public Object partitionKey(Put input) {
+            return input.key;
+        }
+    };
+
+    @Test
+    void check_SequentialHistory() {
+        List<LinearizabilityChecker.Operation<Integer, Integer>> history = List.of(
+                new LinearizabilityChecker.Operation<>(0, 1, null, 0, 10),
+                new LinearizabilityChecker.Operation<>(1, null, 1, 20, 30),
+                new LinearizabilityChecker.Operation<>(0, 2, null, 40, 50),
+                new LinearizabilityChecker.Operation<>(1, null, 2, 60, 70));
+
+        Assertions.assertTrue(LinearizabilityChecker.check(REGISTER, history).isLinearizable());
+    }
+
+    @Test
+    void check_StaleReadAfterWrite() {
+        LinearizabilityChecker.Operation<Integer, Integer> write = new LinearizabilityChecker.Operation<>(0, 1, null, 0, 10);
+        LinearizabilityChecker.Operation<Integer, Integer> read = new LinearizabilityChecker.Operation<>(1, null, 0, 20, 30);
+
+        LinearizabilityReport<Integer, Integer> report = LinearizabilityChecker.check(REGISTER, List.of(read, write));
+
+        Assertions.assertFalse(report.isLinearizable());
+        Assertions.assertEquals(List.of(write), report.getLongestPrefix());
+        Assertions.assertSame(read, report.getBlockedOperation());
+    }
+
+    @Test
+    void check_ReadOverlappingWrite() {
+        List<LinearizabilityChecker.Operation<Integer, Integer>> history = List.of(
+                new LinearizabilityChecker.Operation<>(0, 1, null, 0, 10),
+                new LinearizabilityChecker.Operation<>(1, null, 0, 5, 15),
+                new LinearizabilityChecker.Operation<>(2, null, 1, 5, 15),
+                new LinearizabilityChecker.Operation<>(2, null, 1, 20, 30));
+
+        Assertions.assertTrue(LinearizabilityChecker.check(REGISTER, history).isLinearizable());
+    }
+
+    @Test
+    void check_ReadsDisagreeOnOrder() {
+        // both reads overlap both writes, but they saw the writes in opposite orders
+        List<LinearizabilityChecker.Operation<Integer, Integer>> history = List.of(
+                new LinearizabilityChecker.Operation<>(0, 1, null, 0, 100),
+                new LinearizabilityChecker.Operation<>(1, 2, null, 0, 100),
+                new LinearizabilityChecker.Operation<>(2, null, 1, 10, 20),
+                new LinearizabilityChecker.Operation<>(2, null, 2, 30, 40),
+                new LinearizabilityChecker.Operation<>(3, null, 2, 10, 20),
+                new LinearizabilityChecker.Operation<>(3, null, 1, 30, 40));
+
+        Assertions.assertFalse(LinearizabilityChecker.check(REGISTER, history).isLinearizable());
+    }
+
+    @Test
+    void record_AtomicCounter() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+
+        List<LinearizabilityChecker.Operation<Void, Integer>> history =
+                LinearizabilityChecker.record(THREADS, OPERATIONS, () -> null, input -> counter.getAndIncrement());
+        LinearizabilityReport<Void, Integer> report = LinearizabilityChecker.check(COUNTER, history);
+
+        Assertions.assertEquals(THREADS * OPERATIONS, history.size());
+        Assertions.assertTrue(report.isLinearizable(), report::toString);
+    }
+
+    @Test
+    void record_RacyCounter() throws InterruptedException {
+        RacyCounter counter = new RacyCounter();
+
+        LinearizabilityReport<Void, Integer> report = LinearizabilityChecker.recordAndCheck(
+                COUNTER, THREADS, OPERATIONS, () -> null, input -> counter.getAndIncrement());
+
+        Assertions.assertFalse(report.isLinearizable());
+        Assertions.assertNotNull(report.getBlockedOperation());
+    }
+
+    @Test
+    void check_PartitionedMap() throws InterruptedException {
+        Map<Integer, Integer> map = new ConcurrentHashMap<>();
+
+        LinearizabilityReport<Put, Integer> report = LinearizabilityChecker.recordAndCheck(
+                REGISTER_MAP, THREADS, OPERATIONS, Put::random, put -> {
+                    if (put.value == null) {
+                        return map.getOrDefault(put.key, 0);
+                    }
+                    map.put(put.key, put.value);
+                    return null;
+                });
+
+        Assertions.assertTrue(report.isLinearizable(), report::toString);
+    }
+
+    @Test
+    void record_FailedOperation() {
+        Assertions.assertThrows(IllegalStateException.class, () -> LinearizabilityChecker.record(THREADS, OPERATIONS,
+                () -> null, input -> {
+                    throw new UnsupportedOperationException();
+                }));
+    }
+
+    @Test
+    void record_WorkerIds() throws InterruptedException {
+        List<LinearizabilityChecker.Operation<Void, Integer>> history =
+                LinearizabilityChecker.record(THREADS, 3, () -> null, input -> 0);
+
+        Assertions.assertEquals(IntStream.range(0, THREADS).boxed().collect(Collectors.toSet()),
+                history.stream().map(LinearizabilityChecker.Operation::getWorker).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void record_RejectsWarmup() {
+        AtomicInteger counter = new AtomicInteger();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LinearizabilityChecker.record(THREADS,
+                OPERATIONS, () -> null, input -> counter.getAndIncrement(),
+                RunnerOptions.defaults().withWarmup(Warmup.iterations(10))));
+        Assertions.assertEquals(0, counter.get());
+    }
+
+    private static class RacyCounter {
+
+        private volatile int value;
+
+        int getAndIncrement() {
+            int current = value;
+            Thread.yield();
+            value = current + 1;
+            return current;
+        }
+    }
+
+    private static class Put {
+
+        private final int key;
+        private final Integer value;
+
+        private Put(int key, Integer value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        static Put random() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return new Put(random.nextInt(4), random.nextBoolean() ? null : random.nextInt(1, 100));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Put other && key == other.key && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, value);
+        }
+
+        @Override
+        public String toString() {
+            return value == null ? "get(" + key + ")" : "put(" + key + ", " + value + ")";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LongParallelRunnerTest {
+
+    private static final int THREADS = 1000;
+
+    @Test
+    void forIntSupplier_Reductions() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (LongParallelRunner runner = LongParallelRunner.forIntSupplier(THREADS, counter::incrementAndGet)) {
+            runner.start();
+
+            LongSummaryStatistics statistics = runner.summaryStatistics();
+            Assertions.assertEquals(THREADS, statistics.getCount());
+            Assertions.assertEquals(1, statistics.getMin());
+            Assertions.assertEquals(THREADS, statistics.getMax());
+            Assertions.assertEquals((long) THREADS * (THREADS + 1) / 2, runner.sum());
+            Assertions.assertEquals(1, runner.min());
+            Assertions.assertEquals(THREADS, runner.max());
+            Assertions.assertEquals(THREADS, runner.reduce(0, (count, value) -> count + 1));
+            Assertions.assertEquals(0, runner.getFailedCount());
+        }
+    }
+
+    @Test
+    void forLongSupplier_Histogram() throws InterruptedException {
+        AtomicLong counter = new AtomicLong();
+        try (LongParallelRunner runner = LongParallelRunner.forLongSupplier(THREADS, counter::incrementAndGet)) {
+            runner.start();
+
+            long[] histogram = runner.histogram(10, 100, 500);
+
+            Assertions.assertArrayEquals(new long[]{10, 90, 400, THREADS - 500}, histogram);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> runner.histogram(10, 10));
+        }
+    }
+
+    @Test
+    void forLongSupplier_WarmupKeepsValues() throws InterruptedException {
+        AtomicLong counter = new AtomicLong();
+        int threads = 8;
+        try (LongParallelRunner runner = LongParallelRunner.forLongSupplier(threads, counter::incrementAndGet,
+                RunnerOptions.defaults().withWarmup(Warmup.iterations(5)))) {
+            runner.awaitReadiness();
+            runner.start();
+
+            // warm-up calls took values 1..40, measured calls get the next ones
+            long[] values = runner.toArray();
+            Arrays.sort(values);
+            Assertions.assertArrayEquals(LongStream.rangeClosed(41, 48).toArray(), values);
+            Assertions.assertEquals(threads * 5, runner.getWarmup().getOperations());
+        }
+    }
+
+    @Test
+    void forIntSupplier_FailedWorkersAreSkipped() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (LongParallelRunner runner = LongParallelRunner.forIntSupplier(THREADS, () -> {
+            int value = counter.incrementAndGet();
+            if (value % 2 == 0) {
+                throw new IllegalStateException(String.valueOf(value));
+            }
+            return value;
+        })) {
+            runner.start();
+
+            long[] values = runner.toArray();
+            Assertions.assertEquals(THREADS / 2, values.length);
+            Assertions.assertTrue(Arrays.stream(values).allMatch(it -> it % 2 == 1));
+            Assertions.assertEquals(THREADS / 2, runner.getFailedCount());
+            Assertions.assertEquals(THREADS / 2, runner.summaryStatistics().getCount());
+            Assertions.assertTrue(runner.getExceptions().stream()
+                    .allMatch(it -> it.getCause() instanceof IllegalStateException));
+            Assertions.assertTrue(runner.isDown());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParallelRunnerMetricsTest {
+
+    private static final int THREADS = 10;
+
+    @Test
+    void record() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(THREADS, () -> {
+        })) {
+            runner.start();
+            runner.await();
+
+            ParallelRunnerMetrics.record(registry, "noop", runner);
+        }
+
+        Timer startDelay = registry.get(ParallelRunnerMetrics.START_DELAY)
+                .tag(ParallelRunnerMetrics.RUNNER_TAG, "noop").timer();
+        Timer duration = registry.get(ParallelRunnerMetrics.TASK_DURATION)
+                .tag(ParallelRunnerMetrics.RUNNER_TAG, "noop").timer();
+        Assertions.assertEquals(THREADS, startDelay.count());
+        Assertions.assertEquals(THREADS, duration.count());
+        Assertions.assertTrue(startDelay.takeSnapshot().percentileValues().length > 0);
+    }
+}
@@ -1,19 +1,42 @@
 package com.artemkaxboy.concurrent.parallelrunner;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 class ParallelRunnerTest {
 
     private static final int MANY_THREADS = 1000;
     private static final int FEW_THREADS = 100;
+    private static final int VIRTUAL_THREADS = 50_000;
 
     private static final Runnable NOOP = () -> {
     };
+    private static final Runnable SLEEP_10_MS = () -> {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    };
     private static final Runnable SLEEP_SEC = () -> {
         try {
             Thread.sleep(1000);
@@ -293,4 +316,699 @@ class ParallelRunnerTest {
             Assertions.assertEquals(FEW_THREADS, runner.getStartedThreadCount());
         }
     }
+
+    @Test
+    void forRunnable_VirtualThreads() throws InterruptedException {
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Void> runner =
+                ParallelRunner.forRunnable(VIRTUAL_THREADS, counter::incrementAndGet, RunnerOptions.virtualThreads());
+
+        runner.awaitReadiness();
+        Assertions.assertEquals(0, counter.get());
+        runner.start();
+        runner.await();
+
+        Assertions.assertEquals(VIRTUAL_THREADS, counter.get());
+        Assertions.assertEquals(VIRTUAL_THREADS, runner.getFinishedThreadCount());
+    }
+
+    @Test
+    void forSupplier_VirtualThreads() {
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner =
+                ParallelRunner.forSupplier(VIRTUAL_THREADS, counter::incrementAndGet, RunnerOptions.virtualThreads());
+
+        runner.start();
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResults();
+        long distinctResults = results.stream().map(ParallelRunner.Result::getValue).distinct().count();
+
+        Assertions.assertEquals(VIRTUAL_THREADS, counter.get());
+        Assertions.assertEquals(VIRTUAL_THREADS, distinctResults);
+    }
+
+    @Test
+    void forFunction_VirtualThreads() {
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forFunction(
+                VIRTUAL_THREADS, it -> it, counter::incrementAndGet, RunnerOptions.virtualThreads());
+
+        runner.start();
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResults();
+        long distinctResults = results.stream().map(ParallelRunner.Result::getValue).distinct().count();
+
+        Assertions.assertEquals(VIRTUAL_THREADS, counter.get());
+        Assertions.assertEquals(VIRTUAL_THREADS, distinctResults);
+    }
+
+    @Test
+    void forSupplier_VirtualThreadsInterruption() throws InterruptedException {
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        int sleepTime = 1000;
+
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            try {
+                Thread.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return 1;
+        }, RunnerOptions.virtualThreads());
+        runner.awaitReadiness();
+        long start = System.currentTimeMillis();
+        interruptRunnerInAWhile(runner);
+        runner.start();
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResults();
+        long duration = System.currentTimeMillis() - start;
+
+        Assertions.assertTrue(duration < sleepTime);
+        Assertions.assertTrue(results.stream().allMatch(ParallelRunner.Result::isException));
+        Assertions.assertTrue(runner.isDown());
+    }
+
+    @Test
+    void getStartDelays_WhenFinished() throws InterruptedException {
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, SLEEP_10_MS)) {
+            runner.awaitReadiness();
+            runner.start();
+            runner.await();
+
+            LatencyStats startDelays = runner.getStartDelays();
+            LatencyStats durations = runner.getTaskDurations();
+            Assertions.assertEquals(FEW_THREADS, startDelays.getCount());
+            Assertions.assertTrue(startDelays.getMin() >= 0);
+            Assertions.assertEquals(FEW_THREADS, durations.getCount());
+            Assertions.assertTrue(durations.getMin() >= TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    @Test
+    void getStartDelays_WhenNotStarted() throws InterruptedException {
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, NOOP)) {
+            runner.awaitReadiness();
+
+            Assertions.assertTrue(runner.getStartDelays().isEmpty());
+            Assertions.assertTrue(runner.getTaskDurations().isEmpty());
+        }
+    }
+
+    @Test
+    void getResults_CarryTimings() {
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            SLEEP_10_MS.run();
+            return 1;
+        });
+        runner.start();
+
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResults();
+        Assertions.assertTrue(results.stream().allMatch(it -> it.getStartDelayNanos() >= 0));
+        Assertions.assertTrue(results.stream()
+                .allMatch(it -> it.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(10)));
+    }
+
+    @Test
+    void completedResults_InCompletionOrder() {
+        AtomicInteger counter = new AtomicInteger();
+        int threads = 5;
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(threads, () -> {
+            int value = counter.incrementAndGet();
+            try {
+                Thread.sleep((threads - value) * 50L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return value;
+        });
+        runner.start();
+
+        List<Integer> values = new ArrayList<>();
+        runner.completedResults().forEach(it -> values.add(it.getValue()));
+
+        Assertions.assertEquals(List.of(5, 4, 3, 2, 1), values);
+    }
+
+    @Test
+    void forEachCompleted_SlowTaskDoesNotBlockOthers() throws InterruptedException {
+        int sleepTime = 1000;
+        AtomicInteger counter = new AtomicInteger();
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, () -> {
+            if (counter.incrementAndGet() == 1) {
+                SLEEP_SEC.run();
+            }
+        })) {
+            runner.awaitReadiness();
+            long start = System.currentTimeMillis();
+            runner.start();
+
+            List<Long> deliveredAt = new ArrayList<>();
+            runner.forEachCompleted(it -> deliveredAt.add(System.currentTimeMillis() - start));
+
+            Assertions.assertEquals(FEW_THREADS, deliveredAt.size());
+            Assertions.assertTrue(deliveredAt.get(FEW_THREADS - 2) < sleepTime);
+            Assertions.assertTrue(deliveredAt.get(FEW_THREADS - 1) >= sleepTime);
+        }
+    }
+
+    @Test
+    void getResults_ResolvedOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            int value = counter.incrementAndGet();
+            if (value % 2 == 0) {
+                throw new RuntimeException(String.valueOf(value));
+            }
+            return value;
+        });
+        runner.start();
+
+        List<ParallelRunner.Result<Integer>> results = new ArrayList<>(runner.getResults());
+        Collection<ParallelRunner.Result<Integer>> values = runner.getResultValues();
+        Collection<ParallelRunner.Result<Integer>> exceptions = runner.getResultExceptions();
+
+        Assertions.assertEquals(results, new ArrayList<>(runner.getResults()));
+        Assertions.assertTrue(values.stream().allMatch(it -> results.stream().anyMatch(r -> r == it)));
+        Assertions.assertTrue(exceptions.stream().allMatch(it -> results.stream().anyMatch(r -> r == it)));
+    }
+
+    @Test
+    void forSupplier_SpinStart() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        RunnerOptions options = RunnerOptions.defaults().withStartMode(RunnerOptions.StartMode.SPIN);
+        try (ParallelRunner<Integer> runner = ParallelRunner.forSupplier(cores, counter::incrementAndGet, options)) {
+            runner.awaitReadiness();
+            Assertions.assertEquals(0, counter.get());
+            runner.start();
+            runner.await();
+
+            Assertions.assertEquals(cores, counter.get());
+            Assertions.assertTrue(runner.getResults().stream().allMatch(ParallelRunner.Result::isValue));
+            Assertions.assertEquals(cores, runner.getStartDelays().getCount());
+        }
+    }
+
+    @Test
+    void forRunnable_SpinStartInterruptedBeforeStart() throws InterruptedException {
+        RunnerOptions options = RunnerOptions.defaults().withStartMode(RunnerOptions.StartMode.SPIN);
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(1, NOOP, options);
+        runner.awaitReadiness();
+        runner.interrupt();
+        runner.await();
+
+        Assertions.assertTrue(runner.getResults().stream().allMatch(ParallelRunner.Result::isException));
+    }
+
+    @Test
+    void forRunnable_SpinStartMoreThreadsThanCores() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        RunnerOptions options = RunnerOptions.defaults().withStartMode(RunnerOptions.StartMode.SPIN);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ParallelRunner.forRunnable(cores + 1, NOOP, options));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ParallelRunner.forRunnable(1, NOOP, options.withThreadMode(RunnerOptions.ThreadMode.VIRTUAL)));
+    }
+
+    @Test
+    void forSustainedLoad_Iterations() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ParallelRunner<WorkerLoad> runner =
+                     ParallelRunner.forSustainedLoad(FEW_THREADS, counter::incrementAndGet, LoadLimit.iterations(1000))) {
+            runner.start();
+            LoadReport report = LoadReport.of(runner);
+
+            Assertions.assertEquals(FEW_THREADS * 1000, counter.get());
+            Assertions.assertEquals(FEW_THREADS * 1000, report.getOperations());
+            Assertions.assertEquals(FEW_THREADS, report.getOperationsPerWorker().length);
+            Assertions.assertTrue(Arrays.stream(report.getOperationsPerWorker()).allMatch(it -> it == 1000));
+            Assertions.assertEquals(0, report.getErrors());
+            Assertions.assertTrue(report.getOpsPerSecond() > 0);
+        }
+    }
+
+    @Test
+    void forSustainedLoad_Duration() throws InterruptedException {
+        Duration duration = Duration.ofMillis(200);
+        try (ParallelRunner<WorkerLoad> runner =
+                     ParallelRunner.forSustainedLoad(4, NOOP, LoadLimit.duration(duration))) {
+            runner.start();
+            LoadReport report = LoadReport.of(runner);
+
+            Assertions.assertTrue(report.getWallNanos() >= duration.toNanos());
+            Assertions.assertTrue(report.getWorkers().stream().allMatch(it -> it.getElapsedNanos() >= duration.toNanos()));
+            Assertions.assertTrue(report.getOperations() > 0);
+        }
+    }
+
+    @Test
+    void forSustainedLoad_ErrorRate() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ParallelRunner<WorkerLoad> runner = ParallelRunner.forSustainedLoad(FEW_THREADS, () -> {
+            if (counter.incrementAndGet() % 4 == 0) {
+                throw new IllegalStateException();
+            }
+        }, LoadLimit.iterations(100))) {
+            runner.start();
+            LoadReport report = LoadReport.of(runner);
+
+            Assertions.assertEquals(FEW_THREADS * 100, report.getOperations());
+            Assertions.assertEquals(FEW_THREADS * 25, report.getErrors());
+            Assertions.assertEquals(0.25, report.getErrorRate());
+            Assertions.assertTrue(report.getWorkers().stream()
+                    .filter(it -> it.getErrors() > 0)
+                    .allMatch(it -> it.getFirstError() instanceof IllegalStateException));
+        }
+    }
+
+    @Test
+    void forSupplier_BorrowedExecutor() throws InterruptedException {
+        ExecutorService pool = Executors.newCachedThreadPool();
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            for (int i = 0; i < 10; i++) {
+                try (ParallelRunner<Integer> runner = ParallelRunner.forSupplier(
+                        FEW_THREADS, counter::incrementAndGet, RunnerOptions.defaults().withExecutor(pool))) {
+                    runner.start();
+
+                    Assertions.assertTrue(runner.getResults().stream().allMatch(ParallelRunner.Result::isValue));
+                    Assertions.assertTrue(runner.isDown());
+                }
+            }
+
+            Assertions.assertEquals(10 * FEW_THREADS, counter.get());
+            Assertions.assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forRunnable_BorrowedExecutorInterruption() throws InterruptedException {
+        ExecutorService pool = Executors.newCachedThreadPool();
+        try {
+            ParallelRunner<Void> runner =
+                    ParallelRunner.forRunnable(FEW_THREADS, SLEEP_SEC, RunnerOptions.defaults().withExecutor(pool));
+            runner.awaitReadiness();
+            long start = System.currentTimeMillis();
+            interruptRunnerInAWhile(runner);
+            runner.start();
+            Collection<ParallelRunner.Result<Void>> results = runner.getResults();
+
+            Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+            Assertions.assertTrue(results.stream().allMatch(ParallelRunner.Result::isException));
+            Assertions.assertTrue(runner.isDown());
+            Assertions.assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forSupplier_ForkJoinPoolSmallerThanThreadCount() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            ParallelRunner<Integer> runner = ParallelRunner.forSupplier(
+                    FEW_THREADS, counter::incrementAndGet, RunnerOptions.defaults().withExecutor(pool));
+            runner.start();
+
+            Assertions.assertEquals(FEW_THREADS, runner.getResultValues().size());
+            Assertions.assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forRunnable_BorrowedExecutorTooSmall() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ParallelRunner.forRunnable(FEW_THREADS, NOOP, RunnerOptions.defaults().withExecutor(pool)));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forRunnable_BorrowedExecutorQueuesWorkers() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                2, FEW_THREADS, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>());
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ParallelRunner.forRunnable(FEW_THREADS, NOOP, RunnerOptions.defaults().withExecutor(pool)));
+            pool.setCorePoolSize(FEW_THREADS);
+            ParallelRunner.forRunnable(FEW_THREADS, NOOP, RunnerOptions.defaults().withExecutor(pool)).close();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forRunnable_SharedPool() throws InterruptedException {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 20; i++) {
+            try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(
+                    FEW_THREADS, () -> threadNames.add(Thread.currentThread().getName()), RunnerOptions.sharedPool())) {
+                runner.start();
+                runner.await();
+                runner.getResults();
+            }
+        }
+
+        Assertions.assertTrue(threadNames.size() < 20 * FEW_THREADS);
+        Assertions.assertTrue(threadNames.size() <= SharedWorkerPool.getMaxThreads());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forRunnable(
+                SharedWorkerPool.getMaxThreads() + 1, NOOP, RunnerOptions.sharedPool()));
+    }
+
+    @Test
+    void forMix_Weights() throws InterruptedException {
+        Map<String, String> cache = new ConcurrentHashMap<>();
+        AtomicInteger writes = new AtomicInteger();
+        WorkloadMix<String> mix = WorkloadMix.<String>create()
+                .withWeight("read", 9, () -> cache.get("key"))
+                .withWeight("write", 1, () -> cache.put("key", String.valueOf(writes.incrementAndGet())));
+        ParallelRunner<String> runner = ParallelRunner.forMix(FEW_THREADS, mix);
+
+        runner.start();
+        runner.await();
+        Map<String, List<ParallelRunner.Result<String>>> results = runner.getResultsByOperation();
+
+        Assertions.assertEquals(List.of("read", "write"), List.copyOf(results.keySet()));
+        Assertions.assertEquals(90, results.get("read").size());
+        Assertions.assertEquals(10, results.get("write").size());
+        Assertions.assertEquals(10, writes.get());
+        Assertions.assertEquals(90, runner.getStartDelays("read").getCount());
+        Assertions.assertEquals(10, runner.getTaskDurations("write").getCount());
+        Assertions.assertEquals("write", runner.getOperation(FEW_THREADS - 1));
+    }
+
+    @Test
+    void forMix_FixedAndWeighted() {
+        AtomicInteger fixed = new AtomicInteger();
+        AtomicInteger weighted = new AtomicInteger();
+        WorkloadMix<Integer> mix = WorkloadMix.<Integer>create()
+                .withThreads("fixed", 1, fixed::incrementAndGet)
+                .withWeight("a", 1, weighted::incrementAndGet)
+                .withWeight("b", 2, weighted::incrementAndGet);
+        ParallelRunner<Integer> runner = ParallelRunner.forMix(11, mix);
+
+        runner.start();
+        Map<String, List<ParallelRunner.Result<Integer>>> results = runner.getResultsByOperation();
+
+        Assertions.assertEquals(1, fixed.get());
+        Assertions.assertEquals(10, weighted.get());
+        Assertions.assertEquals(3, results.get("a").size());
+        Assertions.assertEquals(7, results.get("b").size());
+    }
+
+    @Test
+    void forMix_FixedThreadsOnly() {
+        WorkloadMix<Integer> mix = WorkloadMix.<Integer>create()
+                .withThreads("one", 3, () -> 1)
+                .withThreads("two", 2, () -> 2);
+        ParallelRunner<Integer> runner = ParallelRunner.forMix(mix);
+
+        runner.start();
+
+        Assertions.assertEquals(5, runner.getThreadCount());
+        Assertions.assertTrue(runner.getResultsByOperation().get("two").stream().allMatch(it -> it.getValue() == 2));
+    }
+
+    @Test
+    void forMix_InvalidMix() {
+        WorkloadMix<Integer> fixed = WorkloadMix.<Integer>create().withThreads("fixed", 5, () -> 1);
+        WorkloadMix<Integer> rare = WorkloadMix.<Integer>create()
+                .withWeight("common", 1000, () -> 1)
+                .withWeight("rare", 1, () -> 2);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forMix(4, fixed));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forMix(6, fixed));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forMix(10, rare));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fixed.withWeight("fixed", 1, () -> 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ParallelRunner.forMix(1, WorkloadMix.<Integer>create()));
+    }
+
+    @Test
+    void getResultsByOperation_DefaultOperation() {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, NOOP);
+
+        runner.start();
+
+        Assertions.assertEquals(Set.of(ParallelRunner.DEFAULT_OPERATION), runner.getResultsByOperation().keySet());
+    }
+
+    @Test
+    void forSupplier_ResourceAccounting() {
+        int threads = 4;
+        int allocation = 1 << 20;
+        ParallelRunner<Long> runner = ParallelRunner.forSupplier(threads, () -> {
+            byte[] garbage = new byte[allocation];
+            long sum = 0;
+            for (int i = 0; i < 10_000_000; i++) {
+                sum += garbage[i % allocation] + i;
+            }
+            return sum;
+        }, RunnerOptions.defaults().withResourceAccounting(true));
+
+        runner.start();
+        Collection<ParallelRunner.Result<Long>> results = runner.getResults();
+        ResourceUsage usage = runner.getResourceUsage();
+
+        Assertions.assertTrue(results.stream().allMatch(it -> it.getCpuTimeNanos() > 0));
+        Assertions.assertTrue(results.stream().allMatch(it -> it.getAllocatedBytes() >= allocation));
+        Assertions.assertEquals(threads, usage.getCpuMeasuredWorkers());
+        Assertions.assertTrue(usage.getTotalAllocatedBytes() >= (long) threads * allocation);
+        Assertions.assertTrue(usage.getCpuUtilization() > 0 && usage.getCpuUtilization() <= 1.1);
+        Assertions.assertEquals(usage.getTotalCpuTimeNanos(),
+                runner.getResourceUsage(ParallelRunner.DEFAULT_OPERATION).getTotalCpuTimeNanos());
+    }
+
+    @Test
+    void await_ResourceAccountingSkipsUnfinishedWorkers() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, () -> {
+            if (counter.incrementAndGet() > 1) {
+                SLEEP_SEC.run();
+            }
+        }, RunnerOptions.defaults().withResourceAccounting(true))) {
+            runner.start();
+
+            Assertions.assertFalse(runner.await(Duration.ofMillis(100)));
+            ResourceUsage usage = runner.getResourceUsage();
+
+            Assertions.assertEquals(1, usage.getCpuMeasuredWorkers());
+            Assertions.assertEquals(1, usage.getAllocationMeasuredWorkers());
+            // raw counters of running threads would be far beyond what a single increment allocates
+            Assertions.assertTrue(usage.getTotalAllocatedBytes() < 1 << 20, usage.toString());
+        }
+    }
+
+    @Test
+    void forRunnable_ResourceAccountingOffByDefault() {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, NOOP);
+
+        runner.start();
+
+        Assertions.assertTrue(runner.getResults().stream().allMatch(it -> it.getCpuTimeNanos() == -1
+                && it.getAllocatedBytes() == -1));
+        Assertions.assertEquals(0, runner.getResourceUsage().getCpuMeasuredWorkers());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forRunnable(FEW_THREADS, NOOP,
+                RunnerOptions.virtualThreads().withResourceAccounting(true)));
+    }
+
+    @Test
+    void await_Timeout() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            int value = counter.incrementAndGet();
+            if (value == 1) {
+                SLEEP_SEC.run();
+            }
+            return value;
+        });
+
+        runner.start();
+        Assertions.assertFalse(runner.await(Duration.ofMillis(100)));
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResults(Duration.ofMillis(10));
+
+        Assertions.assertEquals(FEW_THREADS, results.size());
+        Assertions.assertEquals(FEW_THREADS - 1, results.stream().filter(ParallelRunner.Result::isValue).count());
+        Assertions.assertTrue(results.stream().filter(ParallelRunner.Result::isException)
+                .allMatch(it -> it.getException() instanceof TimeoutException));
+        Assertions.assertFalse(runner.isDown());
+
+        long start = System.currentTimeMillis();
+        runner.close();
+        runner.await();
+        Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+        Assertions.assertTrue(runner.await(Duration.ZERO));
+        Assertions.assertEquals(1, runner.getResultExceptions().size());
+        Assertions.assertTrue(runner.isDown());
+    }
+
+    @Test
+    void forSupplier_FailFast() {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            if (counter.incrementAndGet() == FEW_THREADS / 2) {
+                throw new IllegalStateException("first failure");
+            }
+            SLEEP_SEC.run();
+            return 0;
+        }, RunnerOptions.defaults().withFailFast(true));
+
+        long start = System.currentTimeMillis();
+        runner.start();
+        Collection<ParallelRunner.Result<Integer>> results = runner.getResultExceptions();
+
+        Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+        Assertions.assertEquals(FEW_THREADS, results.size());
+        Assertions.assertEquals(1, results.stream()
+                .filter(it -> it.getException().getCause() instanceof IllegalStateException).count());
+        Assertions.assertTrue(runner.isDown());
+    }
+
+    @Test
+    void forSupplier_FailFastBorrowedExecutor() {
+        ExecutorService pool = Executors.newCachedThreadPool();
+        try {
+            ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+                throw new IllegalStateException();
+            }, RunnerOptions.defaults().withExecutor(pool).withFailFast(true));
+
+            runner.start();
+
+            Assertions.assertEquals(FEW_THREADS, runner.getResultExceptions().size());
+            Assertions.assertTrue(runner.isDown());
+            Assertions.assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void close_BeforeStart() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, counter::incrementAndGet);
+
+        runner.close();
+        runner.awaitReadiness();
+        runner.start();
+        runner.await();
+
+        Assertions.assertEquals(0, counter.get());
+        Assertions.assertEquals(FEW_THREADS, runner.getResultExceptions().size());
+        Assertions.assertTrue(runner.isDown());
+    }
+
+    @Test
+    void forSupplier_WarmupIsSeparate() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, counter::incrementAndGet,
+                RunnerOptions.defaults().withWarmup(Warmup.iterations(50)));
+
+        runner.awaitReadiness();
+        Assertions.assertEquals(50 * FEW_THREADS, counter.get());
+        runner.start();
+
+        Assertions.assertTrue(runner.getResults().stream().allMatch(it -> it.getValue() > 50 * FEW_THREADS));
+        LoadReport warmup = runner.getWarmup();
+        Assertions.assertEquals(FEW_THREADS, warmup.getWorkers().size());
+        Assertions.assertEquals(50 * FEW_THREADS, warmup.getOperations());
+    }
+
+    @Test
+    void forSustainedLoad_WarmupCallsOperation() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<WorkerLoad> runner = ParallelRunner.forSustainedLoad(FEW_THREADS, counter::incrementAndGet,
+                LoadLimit.iterations(10), RunnerOptions.defaults().withWarmup(Warmup.iterations(100)));
+
+        runner.start();
+        LoadReport report = LoadReport.of(runner);
+
+        Assertions.assertEquals(10 * FEW_THREADS, report.getOperations());
+        Assertions.assertEquals(100 * FEW_THREADS, runner.getWarmup().getOperations());
+        Assertions.assertEquals(110 * FEW_THREADS, counter.get());
+    }
+
+    @Test
+    void forSupplier_WarmupCountsErrors() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, () -> {
+            if (counter.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException();
+            }
+            return 0;
+        }, RunnerOptions.defaults().withWarmup(Warmup.iterations(10)));
+
+        runner.awaitReadiness();
+
+        Assertions.assertEquals(5 * FEW_THREADS, runner.getWarmup().getErrors());
+        Assertions.assertTrue(runner.getWarmup().getWorkers().stream()
+                .filter(it -> it.getErrors() > 0)
+                .allMatch(it -> it.getFirstError() instanceof IllegalStateException));
+        runner.close();
+    }
+
+    @Test
+    void forSupplier_WarmupUntilCompiled() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Warmup warmup = Warmup.untilCompiled(1000, Duration.ofMillis(50), Duration.ofSeconds(2));
+        long start = System.nanoTime();
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(FEW_THREADS, counter::incrementAndGet,
+                RunnerOptions.defaults().withWarmup(warmup));
+
+        runner.awaitReadiness();
+
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertTrue(runner.getWarmup().getWorkers().stream().allMatch(it -> it.getOperations() >= 1000));
+        runner.start();
+        runner.await();
+    }
+
+    @Test
+    void forRunnable_NoWarmupByDefault() throws InterruptedException {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, NOOP);
+
+        runner.start();
+        runner.await();
+
+        Assertions.assertTrue(runner.getWarmup().getWorkers().isEmpty());
+        Assertions.assertEquals("none", RunnerOptions.defaults().getWarmup().toString());
+    }
+
+    @Test
+    void forRunnable_WarmupErrorFailsWorker() {
+        ParallelRunner<Void> runner = ParallelRunner.forRunnable(FEW_THREADS, () -> {
+            throw new AssertionError();
+        }, RunnerOptions.defaults().withWarmup(Warmup.iterations(10)));
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            runner.awaitReadiness();
+            runner.start();
+            runner.await();
+        });
+        Assertions.assertEquals(FEW_THREADS, runner.getResultExceptions().size());
+        Assertions.assertTrue(runner.getResultExceptions().stream()
+                .allMatch(it -> it.getException().getCause() instanceof AssertionError));
+        runner.close();
+    }
+
+    @Test
+    void forWorkers_WarmupNeedsExplicitCallables() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelRunner.forWorkers(FEW_THREADS,
+                worker -> () -> worker, RunnerOptions.defaults().withWarmup(Warmup.iterations(10))));
+    }
+
+    @Test
+    void warmup_InvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Warmup.iterations(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Warmup.untilCompiled(1, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
 }
@@ -0,0 +1,137 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class ReusableParallelRunnerTest {
+
+    private static final int THREADS = 100;
+    private static final int ROUNDS = 1000;
+
+    @Test
+    void forRunnable_ManyRounds() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(THREADS, counter::incrementAndGet)) {
+            for (int i = 0; i < ROUNDS; i++) {
+                runner.awaitReadiness();
+                runner.start();
+                List<ParallelRunner.Result<Void>> results = runner.await();
+
+                Assertions.assertEquals(THREADS, results.size());
+                Assertions.assertEquals((i + 1) * THREADS, counter.get());
+            }
+            Assertions.assertEquals(ROUNDS, runner.getCompletedRounds());
+        }
+    }
+
+    @Test
+    void forSupplier_ResultsArePerRound() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Integer> runner =
+                     ReusableParallelRunner.forSupplier(THREADS, counter::incrementAndGet)) {
+            List<ParallelRunner.Result<Integer>> first = runner.runRound();
+            List<ParallelRunner.Result<Integer>> second = runner.runRound();
+
+            Assertions.assertTrue(first.stream().allMatch(it -> it.getValue() <= THREADS));
+            Assertions.assertTrue(second.stream().allMatch(it -> it.getValue() > THREADS));
+            Assertions.assertEquals(THREADS, second.stream().map(ParallelRunner.Result::getValue).distinct().count());
+        }
+    }
+
+    @Test
+    void forFunction_HalfResultException() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Integer> runner = ReusableParallelRunner.forFunction(THREADS, value -> {
+            if (value % 2 == 0) {
+                throw new IllegalStateException(String.valueOf(value));
+            }
+            return value;
+        }, counter::incrementAndGet)) {
+            for (int i = 0; i < 10; i++) {
+                List<ParallelRunner.Result<Integer>> results = runner.runRound();
+
+                Assertions.assertEquals(THREADS / 2, results.stream().filter(ParallelRunner.Result::isValue).count());
+                Assertions.assertTrue(results.stream().filter(ParallelRunner.Result::isException)
+                        .allMatch(it -> it.getException() instanceof ExecutionException
+                                && it.getException().getCause() instanceof IllegalStateException));
+            }
+        }
+    }
+
+    @Test
+    void start_WorkersWaitForTrigger() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(THREADS, counter::incrementAndGet)) {
+            runner.runRound();
+            runner.awaitReadiness();
+            Thread.sleep(50);
+
+            Assertions.assertEquals(THREADS, counter.get());
+            runner.start();
+            runner.await();
+            Assertions.assertEquals(2 * THREADS, counter.get());
+        }
+    }
+
+    @Test
+    void await_WhenNotStarted() {
+        try (ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(THREADS, () -> {
+        })) {
+            Assertions.assertThrows(IllegalStateException.class, runner::await);
+        }
+    }
+
+    @Test
+    void close_InterruptsRunningRound() throws InterruptedException {
+        ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(THREADS, () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        long start = System.currentTimeMillis();
+        runner.start();
+        runner.close();
+
+        Assertions.assertTrue(runner.isDown());
+        Assertions.assertThrows(IllegalStateException.class, runner::await);
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10_000);
+    }
+
+    @Test
+    void forRunnable_VirtualThreads() throws InterruptedException {
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(
+                10_000, counter::incrementAndGet, RunnerOptions.virtualThreads())) {
+            for (int i = 0; i < 10; i++) {
+                runner.runRound();
+            }
+            Assertions.assertEquals(100_000, counter.get());
+        }
+    }
+
+    @Test
+    void forRunnable_PhaserPartiesLimit() throws InterruptedException {
+        // rejected before any of the platform threads is created
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReusableParallelRunner.forRunnable(
+                ReusableParallelRunner.MAX_THREADS + 1, () -> {
+                }));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReusableParallelRunner.forRunnable(0, () -> {
+        }));
+
+        Assumptions.assumeTrue(RunnerOptions.ThreadMode.VIRTUAL.isSupported());
+        AtomicInteger counter = new AtomicInteger();
+        try (ReusableParallelRunner<Void> runner = ReusableParallelRunner.forRunnable(
+                ReusableParallelRunner.MAX_THREADS, counter::incrementAndGet, RunnerOptions.virtualThreads())) {
+            runner.runRound();
+            Assertions.assertEquals(ReusableParallelRunner.MAX_THREADS, counter.get());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RunnerCoordinatorTest {
+
+    private static final int AGENTS = 2;
+    private static final int THREADS = 4;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void start_InProcessAgents() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService agents = Executors.newFixedThreadPool(AGENTS);
+        try (RunnerCoordinator coordinator = RunnerCoordinator.open(AGENTS)) {
+            List<Future<?>> agentRuns = new ArrayList<>();
+            for (int i = 0; i < AGENTS; i++) {
+                agentRuns.add(agents.submit(() -> {
+                    RunnerAgent.run(coordinator.getPort(), ParallelRunner.forSupplier(THREADS, () -> {
+                        if (counter.incrementAndGet() == 1) {
+                            throw new IllegalStateException("first");
+                        }
+                        return "ok";
+                    }));
+                    return null;
+                }));
+            }
+            coordinator.awaitAgents(TIMEOUT);
+            Assertions.assertEquals(0, counter.get());
+
+            coordinator.start();
+            CoordinatedReport report = coordinator.collect(TIMEOUT);
+            for (Future<?> agentRun : agentRuns) {
+                agentRun.get();
+            }
+
+            Assertions.assertEquals(AGENTS, report.getAgentCount());
+            Assertions.assertEquals(AGENTS * THREADS, report.getThreadCount());
+            Assertions.assertEquals(1, report.getFailedCount());
+            Assertions.assertTrue(report.getResults().stream().filter(RemoteResult::isException)
+                    .allMatch(it -> it.getException().contains("IllegalStateException: first")));
+            Assertions.assertEquals(AGENTS * THREADS, report.getStartDelays().getCount());
+            Assertions.assertTrue(report.getTriggerSkewNanos() >= 0);
+        } finally {
+            agents.shutdownNow();
+        }
+    }
+
+    @Test
+    void start_SeparateJvms() throws Exception {
+        List<Process> processes = new ArrayList<>();
+        try (RunnerCoordinator coordinator = RunnerCoordinator.open(AGENTS)) {
+            for (int i = 0; i < AGENTS; i++) {
+                processes.add(new ProcessBuilder(javaExecutable(), "-cp", System.getProperty("java.class.path"),
+                        Agent.class.getName(), String.valueOf(coordinator.getPort()))
+                        .inheritIO()
+                        .start());
+            }
+            coordinator.awaitAgents(TIMEOUT);
+            coordinator.start();
+            CoordinatedReport report = coordinator.collect(TIMEOUT);
+
+            Assertions.assertEquals(AGENTS * THREADS, report.getThreadCount());
+            Assertions.assertEquals(0, report.getFailedCount());
+            Assertions.assertEquals(AGENTS, report.getResults().stream().map(RemoteResult::getValue).distinct().count());
+            for (Process process : processes) {
+                Assertions.assertTrue(process.waitFor(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+                Assertions.assertEquals(0, process.exitValue());
+            }
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+        }
+    }
+
+    @Test
+    void awaitAgents_Timeout() throws IOException {
+        try (RunnerCoordinator coordinator = RunnerCoordinator.open(AGENTS)) {
+            Assertions.assertThrows(SocketTimeoutException.class, () -> coordinator.awaitAgents(Duration.ofMillis(100)));
+            Assertions.assertThrows(IllegalStateException.class, coordinator::start);
+        }
+    }
+
+    private static String javaExecutable() {
+        return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    }
+
+    /**
+     * Agent JVM, every worker returns the process id.
+     */
+    public static class Agent {
+
+        public static void main(String[] args) throws Exception {
+            long pid = ProcessHandle.current().pid();
+            RunnerAgent.run(Integer.parseInt(args[0]), ParallelRunner.forSupplier(THREADS, () -> pid));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RunnerEventsTest {
+
+    private static final int THREADS = 10;
+    private static final String PREFIX = "com.artemkaxboy.parallelrunner.";
+    private static final List<String> EVENTS = List.of("WorkerReady", "TriggerReleased", "Task", "RunnerClose");
+
+    @Test
+    void recording_ContainsRunnerPhases() throws IOException, InterruptedException {
+        List<RecordedEvent> events;
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(THREADS, () -> {
+            throw new IllegalStateException();
+        });
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(PREFIX + event).withThreshold(Duration.ZERO);
+            }
+            events = record(recording, runner);
+        }
+
+        Map<String, Long> counts = events.stream().collect(Collectors.groupingBy(
+                it -> it.getEventType().getName().substring(PREFIX.length()), Collectors.counting()));
+
+        Assertions.assertEquals(Map.of("WorkerReady", (long) THREADS, "TriggerReleased", 1L, "Task", (long) THREADS,
+                "RunnerClose", 1L), counts);
+        Assertions.assertEquals(THREADS, events.stream().filter(it -> it.getEventType().getName().endsWith("Task"))
+                .map(it -> it.getInt("worker")).distinct().count());
+        Assertions.assertTrue(events.stream().filter(it -> it.getEventType().getName().endsWith("Task"))
+                .allMatch(it -> it.getBoolean("failed")
+                        && ParallelRunner.DEFAULT_OPERATION.equals(it.getString("operation"))));
+        Assertions.assertEquals(THREADS, events.stream()
+                .filter(it -> it.getEventType().getName().endsWith("TriggerReleased"))
+                .mapToInt(it -> it.getInt("readyWorkers")).sum());
+    }
+
+    @Test
+    void recording_DefaultConfigurationLeavesEventsOut() throws IOException, InterruptedException, ParseException {
+        ParallelRunner<Integer> runner = ParallelRunner.forSupplier(THREADS, () -> {
+            // longer than the task threshold, so only the disabled flag keeps it out
+            LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+            return 0;
+        });
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            events = record(recording, runner);
+        }
+
+        Assertions.assertEquals(List.of(), events);
+    }
+
+    /**
+     * Runs the runner to the end within the recording.
+     *
+     * @return events of the runner
+     */
+    private static List<RecordedEvent> record(Recording recording, ParallelRunner<Integer> runner)
+            throws IOException, InterruptedException {
+        Path file = Files.createTempFile("parallel-runner", ".jfr");
+        recording.start();
+        runner.awaitReadiness();
+        runner.start();
+        runner.await();
+        runner.close();
+        recording.stop();
+        recording.dump(file);
+        try {
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(it -> it.getEventType().getName().startsWith(PREFIX))
+                    .filter(it -> it.getLong("runnerId") == runner.getId())
+                    .toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.artemkaxboy.concurrent.parallelrunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ScalabilitySweepTest {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Test
+    void report_RecoversModelCoefficients() {
+        ScalabilityReport report = new ScalabilityReport(THREADS, usl(1000, 0.05, 0.001), List.of());
+
+        Assertions.assertEquals(0.05, report.getSigma(), 1e-9);
+        Assertions.assertEquals(0.001, report.getKappa(), 1e-9);
+        Assertions.assertEquals(Math.sqrt(0.95 / 0.001), report.getPeakConcurrency(), 1e-6);
+        Assertions.assertEquals(32, report.getBestThreadCount());
+        Assertions.assertTrue(report.isRetrograde());
+    }
+
+    @Test
+    void report_LinearScaling() {
+        ScalabilityReport report = new ScalabilityReport(THREADS, usl(1000, 0, 0), List.of());
+
+        Assertions.assertEquals(0, report.getSigma(), 1e-9);
+        Assertions.assertEquals(0, report.getKappa(), 1e-9);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, report.getPeakConcurrency());
+        Assertions.assertFalse(report.isRetrograde());
+    }
+
+    @Test
+    void report_SuperlinearIsClampedToZero() {
+        double[] throughputs = new double[THREADS.length];
+        for (int i = 0; i < THREADS.length; i++) {
+            throughputs[i] = 1000 * THREADS[i] * (1 + 0.01 * THREADS[i]);
+        }
+        ScalabilityReport report = new ScalabilityReport(THREADS, throughputs, List.of());
+
+        Assertions.assertEquals(0, report.getSigma());
+        Assertions.assertEquals(0, report.getKappa());
+    }
+
+    @Test
+    void report_ContentionOnlyIsNotRetrograde() {
+        ScalabilityReport report = new ScalabilityReport(THREADS, usl(1000, 0.2, 0), List.of());
+
+        Assertions.assertEquals(0.2, report.getSigma(), 1e-9);
+        Assertions.assertEquals(0, report.getKappa(), 1e-9);
+        Assertions.assertFalse(report.isRetrograde());
+        Assertions.assertEquals(64, report.getBestThreadCount());
+    }
+
+    @Test
+    void powersOfTwo_EndWithMax() {
+        Assertions.assertArrayEquals(new int[]{1, 2, 4, 8, 12}, ScalabilitySweep.powersOfTwo(12));
+        Assertions.assertArrayEquals(new int[]{1, 2, 4}, ScalabilitySweep.powersOfTwo(4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScalabilitySweep.powersOfTwo(2));
+    }
+
+    @Test
+    void of_RejectsUnsortedThreadCounts() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScalabilitySweep.of(new int[]{1, 4, 2},
+                () -> {
+                }, LoadLimit.iterations(1), RunnerOptions.defaults()));
+    }
+
+    @Test
+    void run_MeasuresEveryStep() throws InterruptedException {
+        AtomicLong counter = new AtomicLong();
+        ScalabilityReport report = ScalabilitySweep.upTo(4, counter::incrementAndGet, LoadLimit.iterations(10_000))
+                .run();
+
+        Assertions.assertArrayEquals(new int[]{1, 2, 4}, report.getThreadCounts());
+        Assertions.assertEquals(3, report.getLoads().size());
+        Assertions.assertEquals(70_000, counter.get());
+        Assertions.assertTrue(report.getSigma() >= 0);
+        Assertions.assertTrue(report.getKappa() >= 0);
+    }
+
+    @Test
+    void run_WarmsUpEveryStep() throws InterruptedException {
+        AtomicLong counter = new AtomicLong();
+        ScalabilityReport report = ScalabilitySweep.of(new int[]{1, 2, 4}, counter::incrementAndGet,
+                LoadLimit.iterations(100), RunnerOptions.defaults().withWarmup(Warmup.iterations(10))).run();
+
+        Assertions.assertEquals(7 * 100, report.getLoads().stream().mapToLong(LoadReport::getOperations).sum());
+        Assertions.assertEquals(7 * (100 + 10), counter.get());
+    }
+
+    private static double[] usl(double single, double sigma, double kappa) {
+        double[] throughputs = new double[THREADS.length];
+        for (int i = 0; i < THREADS.length; i++) {
+            double n = THREADS[i];
+            throughputs[i] = single * n / (1 + sigma * (n - 1) + kappa * n * (n - 1));
+        }
+        return throughputs;
+    }
+}
@@ -0,0 +1,107 @@
+package com.artemkaxboy.jground.probe;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.artemkaxboy.jground.scenario.LoadScenario;
+import com.artemkaxboy.jground.scenario.ScenarioProperties;
+import com.artemkaxboy.jground.scenario.ScenarioRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProbeServiceTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ProbeProperties properties = new ProbeProperties();
+    private final AtomicBoolean runningSeen = new AtomicBoolean();
+    private ScenarioRunner scenarioRunner;
+    private ProbeService probeService;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong counter = new AtomicLong();
+        Map<String, LoadScenario> scenarios = Map.of("counter", () -> {
+            counter.incrementAndGet();
+            if (scenarioRunner.isRunning()) {
+                runningSeen.set(true);
+            }
+        }, "failing", () -> {
+            throw new IllegalStateException();
+        });
+        properties.setThreads(2);
+        properties.setDuration(Duration.ofMillis(100));
+        properties.setMaxSamplesPerWorker(10_000);
+        scenarioRunner = new ScenarioRunner(scenarios, new ScenarioProperties());
+        probeService = new ProbeService(scenarios, scenarioRunner, properties, registry);
+    }
+
+    @Test
+    void runAll_PublishesGauges() throws InterruptedException {
+        List<ProbeResult> results = probeService.runAll();
+
+        Assertions.assertEquals(2, results.size());
+        ProbeResult counter = results.stream().filter(it -> it.scenario().equals("counter")).findFirst().orElseThrow();
+        Assertions.assertTrue(counter.operations() > 0);
+        Assertions.assertEquals(2 * 10_000, counter.latencies().getCount());
+        Assertions.assertFalse(counter.regression());
+        Assertions.assertEquals(counter.throughput(),
+                registry.get("jground.probe.throughput").tag("scenario", "counter").gauge().value());
+        Assertions.assertEquals(4, registry.get("jground.probe.latency").tag("scenario", "counter").gauges().size());
+        Assertions.assertEquals(1.0,
+                registry.get("jground.probe.error.rate").tag("scenario", "failing").gauge().value());
+    }
+
+    @Test
+    void runAll_HoldsScenarioRunner() throws InterruptedException {
+        probeService.runAll();
+
+        Assertions.assertTrue(runningSeen.get());
+        Assertions.assertFalse(scenarioRunner.isRunning());
+    }
+
+    @Test
+    void runAll_SkippedWhileScenarioIsRunning() throws InterruptedException {
+        List<List<ProbeResult>> results = new ArrayList<>();
+
+        Assertions.assertTrue(scenarioRunner.tryRun(() -> results.add(probeService.runAll())));
+
+        Assertions.assertEquals(List.of(List.of()), results);
+        Assertions.assertFalse(runningSeen.get());
+    }
+
+    @Test
+    void validateScenarios_RejectsUnknownNames() {
+        properties.setScenarios(List.of("counter"));
+        probeService.validateScenarios();
+
+        properties.setScenarios(List.of("counter", "unknown"));
+        Assertions.assertThrows(IllegalStateException.class, probeService::validateScenarios);
+    }
+
+    @Test
+    void probe_FlagsRegressionAgainstBaseline() throws InterruptedException {
+        properties.getBaselines().put("counter", new ProbeProperties.Baseline(Double.MAX_VALUE, null));
+
+        ProbeResult result = probeService.probe("counter");
+
+        Assertions.assertTrue(result.regression());
+        Assertions.assertEquals(1.0,
+                registry.get("jground.probe.regression").tag("scenario", "counter").gauge().value());
+    }
+
+    @Test
+    void probe_FirstRunIsTheBaseline() throws InterruptedException {
+        ProbeResult first = probeService.probe("counter");
+        ProbeResult second = probeService.probe("counter");
+
+        Assertions.assertEquals(first.throughput(), second.baseline().getThroughput());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> probeService.probe("unknown"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.artemkaxboy.jground.SecurityConfiguration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs through the security filter chain and the asynchronous dispatch, as a {@code curl} client would.
+ */
+@WebMvcTest(value = ScenarioController.class, properties = {
+        "spring.security.user.name=user",
+        "spring.security.user.password=password"})
+@Import(SecurityConfiguration.class)
+class ScenarioControllerSecurityTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void run_WithBasicAuthAndNoCsrfToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/scenarios/counter/run").with(httpBasic("user", "password"))
+                        .param("threads", "2")
+                        .param("duration", "200ms"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        Assertions.assertNull(result.getRequest().getSession(false));
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ScenarioController.NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        JsonNode summary = objectMapper.readTree(lines[lines.length - 1]);
+
+        Assertions.assertEquals("summary", summary.get("type").asText());
+        Assertions.assertEquals(2, summary.get("threads").asInt());
+    }
+
+    @Test
+    void run_Unauthenticated() throws Exception {
+        // without credentials of its own the request needs a CSRF token first
+        mockMvc.perform(post("/scenarios/counter/run")).andExpect(status().isForbidden());
+        mockMvc.perform(post("/scenarios/counter/run").with(httpBasic("user", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void run_SessionCookieWithoutCsrfToken() throws Exception {
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(formLogin().user("user").password("password"))
+                .andExpect(authenticated())
+                .andReturn().getRequest().getSession(false);
+
+        mockMvc.perform(post("/scenarios/counter/run").session(session)).andExpect(status().isForbidden());
+        // the scenario chain does not read sessions, even a request with a token has to bring credentials
+        mockMvc.perform(post("/scenarios/counter/run").session(session).with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @TestConfiguration
+    static class Scenarios {
+
+        @Bean
+        ScenarioRunner scenarioRunner() {
+            ScenarioProperties properties = new ScenarioProperties();
+            properties.setMaxThreads(4);
+            properties.setMaxDuration(Duration.ofSeconds(5));
+            properties.setProgressInterval(Duration.ofMillis(50));
+            return new ScenarioRunner(Map.of("counter", () -> {
+            }), properties);
+        }
+
+        @Bean
+        TaskExecutor taskExecutor() {
+            return new SimpleAsyncTaskExecutor();
+        }
+    }
+}
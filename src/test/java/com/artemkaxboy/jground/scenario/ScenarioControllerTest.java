@@ -0,0 +1,101 @@
+package com.artemkaxboy.jground.scenario;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ScenarioControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong counter = new AtomicLong();
+    private ScenarioRunner runner;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ScenarioProperties properties = new ScenarioProperties();
+        properties.setMaxThreads(8);
+        properties.setMaxDuration(Duration.ofSeconds(5));
+        properties.setProgressInterval(Duration.ofMillis(50));
+        Map<String, LoadScenario> scenarios = Map.of(
+                "counter", counter::incrementAndGet,
+                "failing", () -> {
+                    throw new IllegalStateException();
+                });
+        runner = new ScenarioRunner(scenarios, properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ScenarioController(runner, new SyncTaskExecutor())).build();
+    }
+
+    @Test
+    void list() throws Exception {
+        mockMvc.perform(get("/scenarios"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[\"counter\", \"failing\"]"));
+    }
+
+    @Test
+    void run_StreamsProgressAndSummary() throws Exception {
+        MvcResult result = mockMvc.perform(post("/scenarios/counter/run").param("threads", "4")
+                        .param("duration", "300ms"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        JsonNode summary = objectMapper.readTree(lines[lines.length - 1]);
+
+        Assertions.assertTrue(lines.length > 1);
+        Assertions.assertEquals("progress", objectMapper.readTree(lines[0]).get("type").asText());
+        Assertions.assertEquals("summary", summary.get("type").asText());
+        Assertions.assertEquals(4, summary.get("threads").asInt());
+        Assertions.assertEquals(counter.get(), summary.get("operations").asLong());
+        Assertions.assertEquals(0, summary.get("errors").asLong());
+    }
+
+    @Test
+    void run_CountsErrors() throws Exception {
+        MvcResult result = mockMvc.perform(post("/scenarios/failing/run").param("threads", "2")
+                        .param("duration", "100ms"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        JsonNode summary = objectMapper.readTree(lines[lines.length - 1]);
+
+        Assertions.assertEquals(1.0, summary.get("errorRate").asDouble());
+    }
+
+    @Test
+    void run_InvalidRequests() throws Exception {
+        mockMvc.perform(post("/scenarios/unknown/run")).andExpect(status().isNotFound());
+        mockMvc.perform(post("/scenarios/counter/run").param("threads", "9")).andExpect(status().isBadRequest());
+        mockMvc.perform(post("/scenarios/counter/run").param("duration", "1m")).andExpect(status().isBadRequest());
+        mockMvc.perform(post("/scenarios/counter/run").param("duration", "soon")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void run_BusyRunner() throws Exception {
+        Assertions.assertTrue(runner.tryRun(() -> {
+            Assertions.assertDoesNotThrow(
+                    () -> mockMvc.perform(post("/scenarios/counter/run").param("duration", "100ms"))
+                            .andExpect(status().isConflict()));
+            Assertions.assertThrows(ScenarioBusyException.class,
+                    () -> runner.run("counter", 1, Duration.ofMillis(100), progress -> {
+                    }));
+        }));
+    }
+}
@@ -0,0 +1,83 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ExactDecoderTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,1", "2,2", "91,7540113804746346429", "92,12200160415121876738",
+            "100,573147844013817084101", "200,453973694165307953197296969697410619233826",
+    })
+    void decode_Fibonacci(int length, String expected) {
+
+        var input = "1".repeat(length);
+
+        Assertions.assertThat(Main.decodeExact(input))
+                .isEqualTo(new BigInteger(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1", "50", "1000", "30000",
+    })
+    void decode_MatchesMatrixProduct(int length) {
+
+        var input = ParallelDecoderTest.randomDigits(new Random(length), length);
+        var digits = input.getBytes(StandardCharsets.US_ASCII);
+        var expected = ParallelDecoder.decodeExact(digits, ForkJoinPool.commonPool(), 1000);
+
+        Assertions.assertThat(ExactDecoder.decode(input))
+                .isEqualTo(expected);
+        Assertions.assertThat(ExactDecoder.decode(digits, 0, digits.length))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void decode_ZeroAfterOverflow() {
+
+        // "30" has no decoding, whatever the count before it
+        var input = "1".repeat(200) + "30" + "1".repeat(10);
+
+        Assertions.assertThat(Main.decodeExact(input))
+                .isEqualTo(BigInteger.ZERO);
+    }
+
+    @Test
+    void decode_SingleDigitsAfterOverflow() {
+
+        // "27", "78", "89" and "91" are not letters, so the count is the product of both halves
+        var input = "1".repeat(99) + "2789" + "1".repeat(100);
+        var expected = Main.decodeExact("1".repeat(99) + "2").multiply(Main.decodeExact("1".repeat(100)));
+
+        Assertions.assertThat(Main.decodeExact(input))
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1000000007", "2", "4611686018427387904",
+    })
+    void decodeMod_MatchesExact(long modulus) {
+
+        var input = ParallelDecoderTest.randomDigits(new Random(modulus), 5000);
+
+        Assertions.assertThat(Main.decodeMod(input, modulus))
+                .isEqualTo(Main.decodeExact(input).mod(BigInteger.valueOf(modulus)).longValueExact());
+    }
+
+    @Test
+    void decodeMod_InvalidModulus() {
+
+        Assertions.assertThatThrownBy(() -> Main.decodeMod("1", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
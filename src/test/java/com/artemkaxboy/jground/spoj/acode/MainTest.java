@@ -1,6 +1,13 @@
 package com.artemkaxboy.jground.spoj.acode;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -62,4 +69,73 @@ class MainTest {
         Assertions.assertThat(actual)
                 .isEqualTo(expected);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,1", "1000,1", "100000,1000003",
+    })
+    void decodeRolling_MatchesCopilot(int length, long seed) {
+
+        var input = randomDigits(new Random(seed), length);
+
+        Assertions.assertThat(Main.decodeRolling(input))
+                .isEqualTo(Main.decodeCopilot(input));
+        Assertions.assertThat(Main.decodeRolling(input.getBytes(StandardCharsets.US_ASCII), 0, length))
+                .isEqualTo(Main.decodeCopilot(input));
+    }
+
+    @Test
+    void solve_ManyLines() throws IOException {
+
+        var input = "25114\n1111111111\n3333333333\n0\n";
+
+        Assertions.assertThat(solve(input))
+                .isEqualTo("6\n89\n1\n");
+    }
+
+    @Test
+    void solve_LinesAcrossBuffers() throws IOException {
+
+        var random = new Random(42);
+        var input = new StringBuilder();
+        var expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            var line = randomDigits(random, 1 + random.nextInt(i % 100 == 0 ? 100_000 : 50));
+            input.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+            expected.append(Main.decodeCopilot(line)).append('\n');
+        }
+        input.append("0\n12\n");
+
+        Assertions.assertThat(solve(input.toString()))
+                .isEqualTo(expected.toString());
+    }
+
+    @Test
+    void solve_NoTerminator() throws IOException {
+
+        Assertions.assertThat(solve("226\n10"))
+                .isEqualTo("3\n1\n");
+    }
+
+    private static String solve(String input) throws IOException {
+        var out = new ByteArrayOutputStream();
+        Main.solve(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Valid code: no leading zero, every zero follows a 1 or a 2.
+     */
+    private static String randomDigits(Random random, int length) {
+        var builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int digit = random.nextInt(10);
+            if (digit == 0 && (builder.length() == 0 || builder.charAt(builder.length() - 1) > '2'
+                    || builder.charAt(builder.length() - 1) == '0')) {
+                continue;
+            }
+            builder.append((char) ('0' + digit));
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,110 @@
+package com.artemkaxboy.jground.spoj.acode;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ParallelDecoderTest {
+
+    private static final long MODULUS = 1_000_000_007;
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,1", "2,1", "10,3", "1000,7", "1000,1000", "100000,64", "100000,65536",
+    })
+    void decode_MatchesSequential(int length, int chunk) {
+
+        var input = randomDigits(new Random(length), length);
+        var digits = input.getBytes(StandardCharsets.US_ASCII);
+
+        Assertions.assertThat(ParallelDecoder.decode(digits, ForkJoinPool.commonPool(), chunk))
+                .isEqualTo(Main.decodeCopilot(input));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,1", "2,1", "91,5", "1000,7", "10000,300", "10000,100000",
+    })
+    void decodeExact_MatchesNaive(int length, int chunk) {
+
+        var input = randomDigits(new Random(length), length);
+        var digits = input.getBytes(StandardCharsets.US_ASCII);
+        var expected = naive(input);
+
+        Assertions.assertThat(ParallelDecoder.decodeExact(digits, ForkJoinPool.commonPool(), chunk))
+                .isEqualTo(expected);
+        Assertions.assertThat(ParallelDecoder.decodeMod(digits, MODULUS, ForkJoinPool.commonPool(), chunk))
+                .isEqualTo(expected.mod(BigInteger.valueOf(MODULUS)).longValueExact());
+    }
+
+    @Test
+    void decodeExact_BeyondLong() {
+
+        var input = "1".repeat(100);
+
+        // F(101)
+        Assertions.assertThat(ParallelDecoder.decodeExact(input.getBytes(StandardCharsets.US_ASCII)))
+                .isEqualTo(new BigInteger("573147844013817084101"));
+    }
+
+    @Test
+    void decodeMod_LargestModulus() {
+
+        var input = randomDigits(new Random(1), 50_000);
+        var modulus = 1L << 31;
+
+        Assertions.assertThat(ParallelDecoder.decodeMod(input.getBytes(StandardCharsets.US_ASCII), modulus,
+                        ForkJoinPool.commonPool(), 1000))
+                .isEqualTo(naive(input).mod(BigInteger.valueOf(modulus)).longValueExact());
+        Assertions.assertThatThrownBy(() -> ParallelDecoder.decodeMod(new byte[0], modulus + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_EveryZeroPosition() {
+
+        var digits = "1020110210".getBytes(StandardCharsets.US_ASCII);
+
+        for (int chunk = 1; chunk <= digits.length; chunk++) {
+            Assertions.assertThat(ParallelDecoder.decode(digits, ForkJoinPool.commonPool(), chunk))
+                    .isEqualTo(Main.decodeCopilot("1020110210"));
+        }
+    }
+
+    private static BigInteger naive(String input) {
+        BigInteger previous = BigInteger.ONE;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 1; i < input.length(); i++) {
+            int pair = Integer.parseInt(input.substring(i - 1, i + 1));
+            BigInteger next = input.charAt(i) != '0' ? current : BigInteger.ZERO;
+            if (pair >= 10 && pair <= 26) {
+                next = next.add(previous);
+            }
+            previous = current;
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Mostly ones and twos, so the counts grow fast, with valid zeros in between.
+     */
+    static String randomDigits(Random random, int length) {
+        var builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int digit = random.nextInt(4) == 0 ? random.nextInt(10) : 1 + random.nextInt(2);
+            if (digit == 0 && (builder.length() == 0 || builder.charAt(builder.length() - 1) > '2'
+                    || builder.charAt(builder.length() - 1) == '0')) {
+                continue;
+            }
+            builder.append((char) ('0' + digit));
+        }
+        return builder.toString();
+    }
+}